@@ -2,6 +2,7 @@ package com.taskmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Class ApiApplication
@@ -9,6 +10,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * Main entry point for the Spring Boot application.
  */
 @SpringBootApplication
+@EnableScheduling
 public class ApiApplication {
 
 	/**
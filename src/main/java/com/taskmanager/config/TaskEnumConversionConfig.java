@@ -0,0 +1,23 @@
+package com.taskmanager.config;
+
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Class TaskEnumConversionConfig
+ *
+ * Configuration binding the request parameters of type {@link TaskStatus} and {@link TaskPriority}
+ * from their values (e.g. {@code status=in progress}), like their JSON form, instead of their constant names.
+ */
+@Configuration
+public class TaskEnumConversionConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, TaskStatus.class, TaskStatus::fromValue);
+        registry.addConverter(String.class, TaskPriority.class, TaskPriority::fromValue);
+    }
+}
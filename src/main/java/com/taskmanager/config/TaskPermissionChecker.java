@@ -1,5 +1,6 @@
 package com.taskmanager.config;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.taskmanager.exception.BadRequestException;
 import com.taskmanager.repository.TaskRepository;
 import lombok.RequiredArgsConstructor;
@@ -33,4 +34,15 @@ public class TaskPermissionChecker {
         if(taskRepository.existsByIdAndExecutorEmail(taskId, email)) return true;
         else throw new BadRequestException("Only executor and admin have access");
     }
+
+    /**
+     * Checks if a merge patch changes the status or the executor of a task, which only the executor
+     * and admins may do (like {@code PATCH /tasks/{taskId}/status}).
+     *
+     * @param patch The merge patch document.
+     * @return true if the patch has a status or an executor field; false otherwise.
+     */
+    public boolean isStatusOrExecutorPatch(JsonNode patch) {
+        return patch != null && (patch.has("status") || patch.has("executor"));
+    }
 }
@@ -0,0 +1,112 @@
+package com.taskmanager.config.concurrency;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class AdmissionControlDataSource
+ *
+ * {@link DataSource} shedding load in front of the connection pool: at most {@code permits} threads may hold
+ * or wait for a connection at a time, through a fair {@link Semaphore}. The limit is meant to be larger than
+ * the pool (the pool queues the admitted threads itself); it bounds how many virtual threads pile up on the pool,
+ * and a thread not admitted within the timeout fails fast with an {@link AdmissionTimeoutException}
+ * (answered with 503 Service Unavailable) instead of waiting for the pool timeout.
+ * A permit is taken before a connection is borrowed and given back when it is closed.
+ * Connections are proxied only to release the permit; {@code unwrap} still reaches the driver connection.
+ */
+public class AdmissionControlDataSource extends DelegatingDataSource {
+
+    /**
+     * Thrown when no permit is available within the timeout.
+     */
+    public static class AdmissionTimeoutException extends SQLTransientConnectionException {
+
+        AdmissionTimeoutException(String message) {
+            super(message);
+        }
+    }
+
+    private final Semaphore permits;
+    private final long timeoutMs;
+
+    public AdmissionControlDataSource(DataSource targetDataSource, int permits, long timeoutMs) {
+        super(targetDataSource);
+        this.permits = new Semaphore(permits, true);
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return borrow(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return borrow(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * @return the number of threads that can currently be admitted without waiting.
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new AdmissionTimeoutException("No database connection admitted within " + timeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    private Connection borrow(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName())) {
+                        // Closing a closed connection is a no-op, it must not give the permit back twice
+                        if (released.compareAndSet(false, true)) {
+                            try {
+                                connection.close();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,56 @@
+package com.taskmanager.config.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import javax.sql.DataSource;
+
+/**
+ * Class VirtualThreadConfig
+ *
+ * Configuration of the virtual-thread execution mode, active only when {@code spring.threads.virtual.enabled=true}.
+ * Spring Boot then serves requests (and so the {@code TaskService} calls) and runs async work on virtual threads;
+ * this configuration puts an {@link AdmissionControlDataSource} in front of the connection pool, so that an
+ * unbounded number of virtual threads can't pile up on the pool: beyond the admission limit, requests
+ * are answered with 503 Service Unavailable after a short wait.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_PERMITS = 200;
+    private static final long DEFAULT_TIMEOUT_MS = 1000;
+
+    /**
+     * Wraps the {@link DataSource} in an {@link AdmissionControlDataSource} admitting {@code db.admission.permits}
+     * threads at a time, with a {@code db.admission.timeout-ms} wait limit.
+     *
+     * @param environment The environment holding the admission properties.
+     * @return a post processor wrapping the data source.
+     */
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof AdmissionControlDataSource) {
+                    return bean;
+                }
+                int permits = environment.getProperty("db.admission.permits", Integer.class, DEFAULT_PERMITS);
+                long timeoutMs = environment.getProperty("db.admission.timeout-ms", Long.class, DEFAULT_TIMEOUT_MS);
+                if (dataSource instanceof HikariDataSource hikari && permits <= hikari.getMaximumPoolSize()) {
+                    log.warn("db.admission.permits ({}) should exceed the pool size ({}): the pool already queues "
+                            + "the threads waiting for its connections", permits, hikari.getMaximumPoolSize());
+                }
+                log.info("Admitting at most {} threads holding or waiting for a database connection on '{}'",
+                        permits, beanName);
+                return new AdmissionControlDataSource(dataSource, permits, timeoutMs);
+            }
+        };
+    }
+}
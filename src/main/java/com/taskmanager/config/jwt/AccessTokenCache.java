@@ -0,0 +1,94 @@
+package com.taskmanager.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taskmanager.config.Role;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class AccessTokenCache
+ *
+ * Bounded cache of verified access tokens, so that a token reused by a client is parsed and its
+ * signature checked only once. Entries are keyed by the SHA-256 digest of the token (the raw token
+ * is never kept) and expire together with the token.
+ * Hit, miss and eviction counts are published as the {@code cache.*} metrics of the {@code jwt.access} cache.
+ */
+@Component
+public class AccessTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, VerifiedAccessToken> cache;
+
+    public AccessTokenCache(
+            JwtProvider jwtProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.access.cache.max-size:10000}") long maxSize
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedAccessToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedAccessToken value, long currentTime) {
+                        long ttl = value.expiresAt() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(ttl, 0));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedAccessToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedAccessToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.access");
+    }
+
+    /**
+     * Returns the verified claims of the access token, verifying it only if it is not cached yet.
+     *
+     * @param token The access token.
+     * @return The {@link VerifiedAccessToken} of the token.
+     * @throws com.taskmanager.exception.AuthException If the token is not valid.
+     */
+    public VerifiedAccessToken get(String token) {
+        return cache.get(digest(token), key -> verify(token));
+    }
+
+    private VerifiedAccessToken verify(String token) {
+        final Claims claims = jwtProvider.parseAccessToken(token);
+        final String userId = claims.get("userId", String.class);
+        return new VerifiedAccessToken(
+                userId != null ? UUID.fromString(userId) : null,
+                claims.getSubject(),
+                claims.get("fullName", String.class),
+                Role.valueOf(claims.get("role", String.class)),
+                claims.getExpiration().getTime());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -9,18 +9,21 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Class JwtAuthentication
  *
  * A class representing the user's authentication details,
  * used to store information about the user after successful authentication.
+ * All the fields come from the access token claims, so no user lookup is needed to build it.
  * Implements the {@link Authentication} interface for integration with Spring Security.
  */
 @Getter
 @Setter
 public class JwtAuthentication implements Authentication {
     private boolean authenticated;
+    private UUID userId;
     private String email;
     private String fullName;
     private Role role;
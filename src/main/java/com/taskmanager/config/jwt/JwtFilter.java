@@ -1,8 +1,6 @@
 package com.taskmanager.config.jwt;
 
-import com.taskmanager.config.Role;
 import com.taskmanager.service.AuthServiceImpl;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,6 +20,7 @@ import java.io.IOException;
  * It checks for the presence of a token in the "Authorization" header and validates it.
  * If the token is valid, it extracts the user's details from the token and sets
  * the authentication in the {@link SecurityContextHolder}.
+ * Verified tokens are cached by {@link AccessTokenCache}, so a reused token is parsed only once.
  */
 @Component
 @Slf4j
@@ -29,7 +28,7 @@ import java.io.IOException;
 public class JwtFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION = "Authorization";
-    private final JwtProvider jwtProvider;
+    private final AccessTokenCache accessTokenCache;
     private final AuthServiceImpl authServiceImpl;
 
     /**
@@ -55,13 +54,15 @@ public class JwtFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
             token = bearer.substring(7);
         }
-        if (token != null && jwtProvider.validateAccessToken(token)) {
-            final Claims claims = jwtProvider.getAccessClaims(token);
+        if (token != null) {
+            final VerifiedAccessToken verifiedToken = accessTokenCache.get(token);
 
             final JwtAuthentication jwtAuthentication = new JwtAuthentication();
-            jwtAuthentication.setEmail(claims.getSubject());
-            jwtAuthentication.setRole(Role.valueOf(claims.get("role", String.class)));
-            jwtAuthentication.setAuthenticated(authServiceImpl.isUserLoggedIn(claims.getSubject()));
+            jwtAuthentication.setUserId(verifiedToken.userId());
+            jwtAuthentication.setEmail(verifiedToken.email());
+            jwtAuthentication.setFullName(verifiedToken.fullName());
+            jwtAuthentication.setRole(verifiedToken.role());
+            jwtAuthentication.setAuthenticated(authServiceImpl.isUserLoggedIn(verifiedToken.email()));
             SecurityContextHolder.getContext().setAuthentication(jwtAuthentication);
 
         }
@@ -1,6 +1,6 @@
 package com.taskmanager.config.jwt;
 
-import com.taskmanager.entity.User;
+import com.taskmanager.dto.projection.UserView;
 import com.taskmanager.exception.AuthException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
@@ -36,7 +36,7 @@ public class JwtProvider {
     private final JwtParser refreshParser;
 
     private static final long ACCESS_EXPIRATION_MS = 10 * 60 * 1000; // 10 minutes
-    private static final long REFRESH_EXPIRATION_MS = 24 * 60 * 60 * 1000; // 24 hours
+    public static final long REFRESH_EXPIRATION_MS = 24 * 60 * 60 * 1000; // 24 hours
 
     public JwtProvider(
             @Value("${jwt.access.path}") String accessPath,
@@ -69,53 +69,56 @@ public class JwtProvider {
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
-    public String generateAccessToken(@NonNull User user) {
+    public String generateAccessToken(@NonNull UserView user) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + ACCESS_EXPIRATION_MS);
 
         return Jwts.builder()
-                .setSubject(user.getEmail())
+                .setSubject(user.email())
                 .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .setIssuer("task-manager-api")
                 .setAudience("access")
                 .claim("type", "access")
-                .claim("login", user.getEmail())
-                .claim("fullName", user.getFullName())
-                .claim("role", user.getRole())
-                .claim("userId", user.getId())
+                .claim("login", user.email())
+                .claim("fullName", user.fullName())
+                .claim("role", user.role())
+                .claim("userId", user.id())
                 .signWith(accessSecretKey)
                 .compact();
     }
 
-    public String generateRefreshToken(@NonNull User user) {
+    public String generateRefreshToken(@NonNull UserView user) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + REFRESH_EXPIRATION_MS);
 
         return Jwts.builder()
-                .setSubject(user.getEmail())
+                .setSubject(user.email())
                 .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiry)
                 .setIssuer("task-manager-api")
                 .setAudience("refresh")
                 .claim("type", "refresh")
-                .claim("role", user.getRole())
+                .claim("role", user.role())
                 .signWith(refreshSecretKey)
                 .compact();
     }
 
-    public Claims getAccessClaims(@NonNull String token) {
-        return accessParser.parseClaimsJws(token).getBody();
-    }
-
     public Claims getRefreshClaims(@NonNull String token) {
         return refreshParser.parseClaimsJws(token).getBody();
     }
 
-    public boolean validateAccessToken(@NonNull String token) {
-        return validateToken(token, accessParser);
+    /**
+     * Verifies the access token and returns its claims in a single parsing pass.
+     *
+     * @param token The access token.
+     * @return The claims of the token.
+     * @throws AuthException If the token is expired, malformed or not signed with the access key.
+     */
+    public Claims parseAccessToken(@NonNull String token) {
+        return parseToken(token, accessParser);
     }
 
     public boolean validateRefreshToken(@NonNull String token) {
@@ -123,9 +126,13 @@ public class JwtProvider {
     }
 
     private boolean validateToken(@NonNull String token, @NonNull JwtParser parser) {
+        parseToken(token, parser);
+        return true;
+    }
+
+    private Claims parseToken(@NonNull String token, @NonNull JwtParser parser) {
         try {
-            parser.parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException expEx) {
             log.error("Expired JWT token: {}", expEx.getMessage(), expEx);
             throw new AuthException("Token expired: " + expEx.getMessage());
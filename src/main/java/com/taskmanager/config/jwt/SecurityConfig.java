@@ -1,5 +1,6 @@
 package com.taskmanager.config.jwt;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -50,6 +51,8 @@ public class SecurityConfig {
                     .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                     .authorizeHttpRequests(
                             auth -> auth
+                                    // Async dispatches (SSE and streamed responses) continue a request already authorized
+                                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                     .requestMatchers(
                                             "/auth/login", "/auth/newAccessToken",
                                             "/v1/task-management-api-docs/**", "/swagger-ui/**", "/v1/task-management-api-docs")
@@ -0,0 +1,40 @@
+package com.taskmanager.config.jwt;
+
+import com.taskmanager.config.Role;
+
+import java.util.UUID;
+
+/**
+ * Class VerifiedAccessToken
+ *
+ * The claims of an access token whose signature and expiration have already been verified.
+ * Cached by {@link AccessTokenCache} until the token expires.
+ */
+public record VerifiedAccessToken(
+
+        /**
+         * The id of the user.
+         */
+        UUID userId,
+
+        /**
+         * The subject (login) of the token.
+         */
+        String email,
+
+        /**
+         * The full name of the user.
+         */
+        String fullName,
+
+        /**
+         * The role of the user.
+         */
+        Role role,
+
+        /**
+         * The expiration time of the token in epoch milliseconds.
+         */
+        long expiresAt
+) {
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.config.sql;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Class SqlStatementBudgetConfig
+ *
+ * Configuration enabling the per-request SQL statement budget on the task endpoints.
+ * Active only when {@code sql.statement-budget} is set; every {@code /tasks/**} request issuing more
+ * statements than this value is logged with a warning. This is an optional runtime check: the budget of
+ * every endpoint is enforced by the build ({@code SqlStatementBudgetTest}).
+ */
+@Configuration
+@ConditionalOnProperty("sql.statement-budget")
+public class SqlStatementBudgetConfig implements WebMvcConfigurer {
+
+    @Value("${sql.statement-budget}")
+    private int budget;
+
+    /**
+     * Registers the {@link SqlStatementCounter} as the Hibernate statement inspector.
+     *
+     * @return a customizer adding the statement inspector to the Hibernate properties.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatementBudgetInterceptor(budget)).addPathPatterns("/tasks/**");
+    }
+}
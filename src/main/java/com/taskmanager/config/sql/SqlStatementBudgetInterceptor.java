@@ -0,0 +1,36 @@
+package com.taskmanager.config.sql;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Class SqlStatementBudgetInterceptor
+ *
+ * Interceptor that reports every request issuing more SQL statements than the configured budget.
+ * Used to catch N+1 selects on the task endpoints.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SqlStatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final int budget;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.reset();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int count = SqlStatementCounter.count();
+        if (count > budget) {
+            log.warn("{} {} issued {} SQL statements (budget is {})",
+                    request.getMethod(), request.getRequestURI(), count, budget);
+        }
+        SqlStatementCounter.clear();
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanager.config.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Class SqlStatementCounter
+ *
+ * Hibernate {@link StatementInspector} that counts the SQL statements prepared by the current thread.
+ * The per-endpoint budgets are enforced by {@code SqlStatementBudgetTest}; at runtime, the optional
+ * {@link SqlStatementBudgetInterceptor} resets the count at the start of every request.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+    @Override
+    public String inspect(String sql) {
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Resets the statement count of the current thread.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Returns the number of statements prepared by the current thread since the last {@link #reset()}.
+     *
+     * @return the statement count.
+     */
+    public static int count() {
+        return COUNT.get()[0];
+    }
+
+    /**
+     * Removes the counter of the current thread.
+     */
+    public static void clear() {
+        COUNT.remove();
+    }
+}
@@ -1,9 +1,17 @@
 package com.taskmanager.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.taskmanager.dto.*;
+import com.taskmanager.dto.error.ErrorMessageResponseDto;
 import com.taskmanager.dto.error.ValidationErrorMessageResponseDto;
+import com.taskmanager.entity.TaskStatus;
 import com.taskmanager.entity.User;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.mapper.ETagMapper;
+import com.taskmanager.service.TaskEventBus;
+import com.taskmanager.service.interfaces.TaskImportService;
 import com.taskmanager.service.interfaces.TaskService;
+import com.taskmanager.service.interfaces.TaskStatsService;
 import com.taskmanager.service.interfaces.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,16 +23,27 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.io.InputStream;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Class TaskController
@@ -42,6 +61,9 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskImportService taskImportService;
+    private final TaskStatsService taskStatsService;
+    private final TaskEventBus taskEventBus;
     private final UserService userService;
     /**
      * Endpoint to create a new task.
@@ -63,12 +85,33 @@ public class TaskController {
                 .body(taskService.addTask(taskNoIdDto));
     }
 
+    /**
+     * Endpoint to create several tasks in one request and one transaction.
+     * Each task is validated on its own: invalid tasks are reported and the valid ones are created.
+     *
+     * @param tasks The request body containing the tasks details (excluding the IDs).
+     * @return {@link TaskBatchResultDto} containing the id or the validation errors of every task.
+     */
+    @PostMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "post several new tasks (up to 500)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Batch is processed", content = @Content(schema = @Schema(implementation = TaskBatchResultDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (empty or too large batch)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<TaskBatchResultDto> addTasks(@RequestBody @NotNull List<TaskNoIdDto> tasks) {
+        return ResponseEntity.ok(taskService.addTasks(tasks));
+    }
+
     /**
      * Endpoint to update an existing task.
      * Accessible only by users with the ADMIN role.
+     * With an {@code If-Match} header (the ETag of the task), the update is applied only if the task was not changed since.
      *
      * @param taskDto The request body containing the updated task details.
-     * @return {@link TaskDto} containing the updated task.
+     * @param ifMatch Optional ETag the task must still have.
+     * @return {@link TaskDto} containing the updated task, with its new ETag.
      */
     @PutMapping
     @PreAuthorize("isAuthenticated()")
@@ -76,10 +119,37 @@ public class TaskController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Task is updated", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Bad request (non valid data)",  content = @Content(schema = @Schema(implementation = ValidationErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none")),
+            @ApiResponse(responseCode = "412", description = "Task was changed since the If-Match version",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class)))}
+    )
+    public ResponseEntity<TaskDto> updateTask(@RequestBody @Valid @NotNull TaskDto taskDto,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Versioned<TaskDto> task = taskService.updateTask(taskDto, ETagMapper.toVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(ETagMapper.toETag(task.version()))
+                .body(task.content());
+    }
+
+    /**
+     * Endpoint to partially update an existing task with a JSON Merge Patch document.
+     * Only the fields present in the document are validated and changed.
+     * Changing the status or the executor is restricted to users with the ADMIN role and the task executor.
+     *
+     * @param taskId The ID of the task to update.
+     * @param patch The merge patch, e.g. {@code {"status": "completed", "dueDate": null}}.
+     * @return {@link TaskDto} containing the updated task.
+     */
+    @PatchMapping(value = "/{taskId}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("isAuthenticated() && (!@taskPermissionChecker.isStatusOrExecutorPatch(#patch) " +
+            "|| hasRole('ADMIN') || @taskPermissionChecker.isTaskExecutor(#taskId, authentication.principal))")
+    @Operation(summary = "partially update task (JSON Merge Patch, status and executor for admin and executor)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Task is updated", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid data, or status or executor changed by non executor)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
     )
-    public ResponseEntity<TaskDto> updateTask(@RequestBody @Valid @NotNull TaskDto taskDto) {
-        return ResponseEntity.ok(taskService.updateTask(taskDto));
+    public ResponseEntity<TaskDto> patchTask(@PathVariable UUID taskId, @RequestBody @NotNull JsonNode patch) {
+        return ResponseEntity.ok(taskService.patchTask(taskId, patch));
     }
 
     /**
@@ -122,12 +192,235 @@ public class TaskController {
         taskService.deleteTask(idDto);
     }
 
+    /**
+     * Endpoint to delete every task matching a filter with one statement.
+     * An admin deletes every matching task, any other user only the matching tasks they created.
+     *
+     * @param filter The request body containing the criteria of the tasks to delete.
+     * @return {@link BulkResultDto} containing the number of deleted tasks.
+     */
+    @DeleteMapping("/bulk")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "delete tasks by ids or filter (admin: all tasks, user: created tasks)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks are deleted", content = @Content(schema = @Schema(implementation = BulkResultDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid data or no criterion)",  content = @Content(schema = @Schema(implementation = ValidationErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated)",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<BulkResultDto> deleteTasks(@RequestBody @Valid @NotNull TaskBulkFilterDto filter) {
+        return ResponseEntity.ok(taskService.deleteTasks(filter));
+    }
+
+    /**
+     * Endpoint to change the status of every task matching a filter with one statement.
+     * An admin updates every matching task, any other user only the matching tasks they execute.
+     *
+     * @param bulkStatus The request body containing the criteria of the tasks and their new status.
+     * @return {@link BulkResultDto} containing the number of updated tasks.
+     */
+    @PatchMapping("/status/bulk")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "update status of tasks by ids or filter (admin: all tasks, user: executed tasks)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks status is updated", content = @Content(schema = @Schema(implementation = BulkResultDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid data or no criterion)",  content = @Content(schema = @Schema(implementation = ValidationErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated)",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<BulkResultDto> updateTasksStatus(@RequestBody @Valid @NotNull TaskBulkStatusDto bulkStatus) {
+        return ResponseEntity.ok(taskService.updateTasksStatus(bulkStatus.filter(), bulkStatus.status().name()));
+    }
+
+    /**
+     * Endpoint to export tasks as NDJSON or CSV.
+     * The response is streamed while the tasks are read, so any number of tasks can be exported.
+     *
+     * @param format The export format: ndjson (default) or csv.
+     * @param status Optional status of the exported tasks.
+     * @param creatorId Optional ID of the creator of the exported tasks.
+     * @param executorId Optional ID of the executor of the exported tasks.
+     * @return A streamed body writing the matching tasks.
+     */
+    @GetMapping("/export")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "export tasks as ndjson or csv (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks are streamed", content = {
+                    @Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "Bad request (unknown format)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(required = false) TaskStatus status,
+                                                             @RequestParam(required = false) UUID creatorId,
+                                                             @RequestParam(required = false) UUID executorId) {
+        TaskFileFormat exportFormat = TaskFileFormat.fromParameter(format);
+        StreamingResponseBody body = out -> taskService.exportTasks(exportFormat, status, creatorId, executorId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    /**
+     * Endpoint to import tasks from an NDJSON or CSV body in one transaction.
+     * Accessible only by users with the ADMIN role, who becomes the creator of the imported tasks.
+     *
+     * @param format The format of the body: ndjson (default) or csv.
+     * @param body The request body, read as a stream.
+     * @return {@link TaskImportResultDto} reporting the imported and rejected rows.
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "import tasks from ndjson or csv (for admin)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tasks are imported", content = @Content(schema = @Schema(implementation = TaskImportResultDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (unknown format or non valid file)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<TaskImportResultDto> importTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                                           InputStream body) {
+        return ResponseEntity.ok(taskImportService.importTasks(TaskFileFormat.fromParameter(format), body));
+    }
+
+    /**
+     * Endpoint to retrieve the tasks matching optional status, priority, creator, executor and due-date criteria.
+     * Accessible by authenticated users. The criteria are combined into a single query; the tasks can be sorted
+     * by id (creation order) or dueDate only, so that every sort is served by an index. The matching tasks
+     * are only counted with {@code withTotal=true}; otherwise the response only tells whether a next page exists.
+     *
+     * @param filter The optional criteria of the tasks.
+     * @param sort The sort property: id or dueDate.
+     * @param direction The sort direction: asc or desc.
+     * @param page The page number for pagination.
+     * @param size The number of tasks per page.
+     * @param withTotal Whether to count the matching tasks (totalElements and totalPages).
+     * @return A {@link Slice<TaskDto>} containing the matching tasks, a {@link Page<TaskDto>} if {@code withTotal}.
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "get tasks filtered by status, priority, creator, executor and due date (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to get tasks", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid criteria or sort)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<Slice<TaskDto>> getTasks(@Valid @ParameterObject @ModelAttribute TaskFilterDto filter,
+                                                   @RequestParam(defaultValue = "id") String sort,
+                                                   @RequestParam(defaultValue = "asc") String direction,
+                                                   @RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "10") int size,
+                                                   @RequestParam(defaultValue = "false") boolean withTotal) {
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> new BadRequestException("Directions that are acceptable: asc|desc"));
+        return ResponseEntity.ok(taskService.findAll(filter, PageRequest.of(page, size, Sort.by(sortDirection, sort)),
+                withTotal));
+    }
+
+    /**
+     * Endpoint to retrieve the task counts by status and priority, of one executor or of all tasks.
+     * Accessible by authenticated users. The counts are read from counters maintained on every task change,
+     * so the cost of the request does not depend on the number of tasks.
+     *
+     * @param executorId Optional ID of the executor of the counted tasks.
+     * @return {@link TaskStatsDto} containing the counts.
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "get task counts by status and priority, optionally of one executor (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to get task counts", content = @Content(schema = @Schema(implementation = TaskStatsDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<TaskStatsDto> getTaskStats(@RequestParam(required = false) UUID executorId) {
+        return ResponseEntity.ok(taskStatsService.getStats(executorId));
+    }
+
+    /**
+     * Endpoint to follow the task changes as Server-Sent Events, instead of polling the task lists.
+     * Accessible by authenticated users. Every committed change of a task is sent as a {@code created},
+     * {@code updated}, {@code status-changed} or {@code deleted} event, optionally restricted to the tasks
+     * of one executor and/or creator; bulk operations and imports are sent to every subscriber as
+     * {@code bulk-changed}. A client too slow to take its events gets an {@code overflow} event with the number
+     * of dropped events, and is disconnected if it keeps falling behind.
+     *
+     * @param executorId Optional ID of the executor of the tasks.
+     * @param creatorId Optional ID of the creator of the tasks.
+     * @return The {@link SseEmitter} of the subscription.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "stream task changes as server-sent events, optionally of one executor or creator (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream of task change events", content = @Content(schema = @Schema(implementation = TaskEventDto.class), mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public SseEmitter streamTasks(@RequestParam(required = false) UUID executorId,
+                                  @RequestParam(required = false) UUID creatorId) {
+        return taskEventBus.subscribe(executorId, creatorId);
+    }
+
+    /**
+     * Endpoint to search tasks by the words of their title and description.
+     * Accessible by authenticated users. Results are ranked by relevance.
+     *
+     * @param q The search query: words, {@code "exact phrase"}, {@code or}, {@code -excluded}.
+     * @param status Optional status of the tasks.
+     * @param executorId Optional ID of the executor of the tasks.
+     * @param page The page number for pagination.
+     * @param size The number of tasks per page.
+     * @return A {@link Page<TaskDto>} containing the matching tasks, most relevant first.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "full-text search of tasks by title and description (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to search tasks", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (blank query)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<Page<TaskDto>> searchTasks(@RequestParam String q,
+                                                     @RequestParam(required = false) TaskStatus status,
+                                                     @RequestParam(required = false) UUID executorId,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(taskService.search(q, status, executorId, PageRequest.of(page, size)));
+    }
+
+    /**
+     * Endpoint to retrieve a task by its ID.
+     * Accessible by authenticated users, like the task lists. The task is served from a cache and returned
+     * with its ETag; a request with a matching {@code If-None-Match} header gets a 304 response.
+     *
+     * @param taskId The ID of the task.
+     * @param request The request, whose {@code If-None-Match} header is checked against the task ETag.
+     * @return {@link TaskDto} containing the task.
+     */
+    @GetMapping("/{taskId}")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "get task by task id (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to get task", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Task not modified since the If-None-Match ETag", content = @Content(mediaType = "none")),
+            @ApiResponse(responseCode = "400", description = "Bad request (task doesn't exist)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<TaskDto> getTask(@PathVariable UUID taskId, WebRequest request) {
+        Versioned<TaskDto> task = taskService.findById(taskId);
+        String eTag = ETagMapper.toETag(task.version());
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(task.content());
+    }
+
     /**
      * Endpoint to retrieve all tasks.
      * Accessible by authenticated users.
      *
      * @param page The page number for pagination.
      * @param size The number of tasks per page.
+     * @param request The request, whose {@code If-None-Match} header is checked against the page ETag.
      * @return A {@link Page<TaskDto>} containing all tasks.
      */
     @GetMapping("/all")
@@ -135,11 +428,15 @@ public class TaskController {
     @Operation(summary = "get all tasks (for admin and user)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get tasks", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the If-None-Match ETag", content = @Content(mediaType = "none")),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
     )
     public ResponseEntity<Page<TaskDto>> getAllTasks(@RequestParam(defaultValue = "0") int page,
-                                                     @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(taskService.findAll(PageRequest.of(page, size)));
+                                                     @RequestParam(defaultValue = "3") int size,
+                                                     WebRequest request) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return conditional(request, taskService.findAllETag(pageRequest),
+                () -> taskService.findAll(pageRequest));
     }
 
     /**
@@ -148,6 +445,7 @@ public class TaskController {
      * @param status The status of the tasks.
      * @param page The page number for pagination.
      * @param size The number of tasks per page.
+     * @param request The request, whose {@code If-None-Match} header is checked against the page ETag.
      * @return A {@link Page<TaskDto>} containing all tasks.
      */
     @GetMapping("/by-status")
@@ -156,13 +454,17 @@ public class TaskController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get filtered tasks",
                     content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the If-None-Match ETag", content = @Content(mediaType = "none")),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",
                     content = @Content(mediaType = "none"))
     })
-    public ResponseEntity<Page<TaskDto>> getTasksByStatus(@RequestParam(defaultValue = "pending") String status,
+    public ResponseEntity<Page<TaskDto>> getTasksByStatus(@RequestParam(defaultValue = "pending") TaskStatus status,
                                                           @RequestParam(defaultValue = "0") int page,
-                                                          @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(taskService.findByStatus(status, PageRequest.of(page, size)));
+                                                          @RequestParam(defaultValue = "3") int size,
+                                                          WebRequest request) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return conditional(request, taskService.findByStatusETag(status, pageRequest),
+                () -> taskService.findByStatus(status, pageRequest));
     }
 
     /**
@@ -172,6 +474,7 @@ public class TaskController {
      * @param id The ID of the user who created the tasks.
      * @param page The page number for pagination.
      * @param size The number of tasks per page.
+     * @param request The request, whose {@code If-None-Match} header is checked against the page ETag.
      * @return A {@link Page<TaskDto>} containing tasks created by the specified user.
      */
     @GetMapping("/all/creator/{id}")
@@ -179,12 +482,16 @@ public class TaskController {
     @Operation(summary = "get tasks by creator id (for admin and user)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get tasks by creator id", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the If-None-Match ETag", content = @Content(mediaType = "none")),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
     )
     public ResponseEntity<Page<TaskDto>> getTasksListByCreator(@PathVariable UUID id,
                                                                @RequestParam(defaultValue = "0") int page,
-                                                               @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(taskService.findAllByCreator(id, PageRequest.of(page, size)));
+                                                               @RequestParam(defaultValue = "3") int size,
+                                                               WebRequest request) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return conditional(request, taskService.findAllByCreatorETag(id, pageRequest),
+                () -> taskService.findAllByCreator(id, pageRequest));
     }
 
     /**
@@ -194,6 +501,7 @@ public class TaskController {
      * @param id The ID of the user who is the executor of the tasks.
      * @param page The page number for pagination.
      * @param size The number of tasks per page.
+     * @param request The request, whose {@code If-None-Match} header is checked against the page ETag.
      * @return A {@link Page<TaskDto>} containing tasks assigned to the specified user.
      */
     @GetMapping("/all/executor/{id}")
@@ -201,12 +509,121 @@ public class TaskController {
     @Operation(summary = "get tasks by executor id (for admin and user)")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Successful request to get tasks by creator executor", content = @Content(schema = @Schema(implementation = TaskDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "304", description = "Page not modified since the If-None-Match ETag", content = @Content(mediaType = "none")),
             @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
     )
     public ResponseEntity<Page<TaskDto>> getTasksListByExecutor(@PathVariable UUID id,
                                                                 @RequestParam(defaultValue = "0") int page,
-                                                                @RequestParam(defaultValue = "3") int size) {
-        return ResponseEntity.ok(taskService.findAllByExecutor(id, PageRequest.of(page, size)));
+                                                                @RequestParam(defaultValue = "3") int size,
+                                                                WebRequest request) {
+        PageRequest pageRequest = PageRequest.of(page, size);
+        return conditional(request, taskService.findAllByExecutorETag(id, pageRequest),
+                () -> taskService.findAllByExecutor(id, pageRequest));
+    }
+
+    /**
+     * Endpoint to retrieve all tasks with keyset (cursor) pagination.
+     * Accessible by authenticated users.
+     *
+     * @param cursor The cursor returned with the previous slice (omit for the first slice).
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto<TaskDto>} containing a slice of tasks.
+     */
+    @GetMapping("/all/scroll")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "get all tasks with cursor pagination (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to get tasks", content = @Content(schema = @Schema(implementation = CursorPageDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid cursor or size)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<CursorPageDto<TaskDto>> scrollAllTasks(@RequestParam(required = false) String cursor,
+                                                                 @RequestParam(defaultValue = "3") int size) {
+        return ResponseEntity.ok(taskService.scrollAll(cursor, size));
     }
 
+    /**
+     * Endpoint to retrieve tasks by status with keyset (cursor) pagination.
+     * Accessible by authenticated users.
+     *
+     * @param status The status of the tasks.
+     * @param cursor The cursor returned with the previous slice (omit for the first slice).
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto<TaskDto>} containing a slice of tasks.
+     */
+    @GetMapping("/by-status/scroll")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "Get tasks filtered by status with cursor pagination (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to get filtered tasks", content = @Content(schema = @Schema(implementation = CursorPageDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid cursor or size)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<CursorPageDto<TaskDto>> scrollTasksByStatus(@RequestParam(defaultValue = "pending") TaskStatus status,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "3") int size) {
+        return ResponseEntity.ok(taskService.scrollByStatus(status, cursor, size));
+    }
+
+    /**
+     * Endpoint to retrieve tasks created by a specific user (creator) with keyset (cursor) pagination.
+     * Accessible by authenticated users.
+     *
+     * @param id The ID of the user who created the tasks.
+     * @param cursor The cursor returned with the previous slice (omit for the first slice).
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto<TaskDto>} containing a slice of tasks created by the specified user.
+     */
+    @GetMapping("/all/creator/{id}/scroll")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "get tasks by creator id with cursor pagination (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to get tasks by creator id", content = @Content(schema = @Schema(implementation = CursorPageDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid cursor or size)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<CursorPageDto<TaskDto>> scrollTasksListByCreator(@PathVariable UUID id,
+                                                                           @RequestParam(required = false) String cursor,
+                                                                           @RequestParam(defaultValue = "3") int size) {
+        return ResponseEntity.ok(taskService.scrollAllByCreator(id, cursor, size));
+    }
+
+    /**
+     * Endpoint to retrieve tasks assigned to a specific user (executor) with keyset (cursor) pagination.
+     * Accessible by authenticated users.
+     *
+     * @param id The ID of the user who is the executor of the tasks.
+     * @param cursor The cursor returned with the previous slice (omit for the first slice).
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto<TaskDto>} containing a slice of tasks assigned to the specified user.
+     */
+    @GetMapping("/all/executor/{id}/scroll")
+    @PreAuthorize("isAuthenticated()")
+    @Operation(summary = "get tasks by executor id with cursor pagination (for admin and user)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Successful request to get tasks by executor id", content = @Content(schema = @Schema(implementation = CursorPageDto.class), mediaType = "application/json")),
+            @ApiResponse(responseCode = "400", description = "Bad request (non valid cursor or size)",  content = @Content(schema = @Schema(implementation = ErrorMessageResponseDto.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (non authenticated) or access denied",  content = @Content(mediaType = "none"))}
+    )
+    public ResponseEntity<CursorPageDto<TaskDto>> scrollTasksListByExecutor(@PathVariable UUID id,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(defaultValue = "3") int size) {
+        return ResponseEntity.ok(taskService.scrollAllByExecutor(id, cursor, size));
+    }
+
+    /**
+     * Answers a conditional GET: returns 304 without building the page if the client already has this ETag,
+     * otherwise builds the page and returns it with its ETag.
+     *
+     * @param request The request holding the {@code If-None-Match} header.
+     * @param eTag The current ETag of the page.
+     * @param page Builds the page, only called if it has changed.
+     * @return The page with its ETag, or null once a 304 response is prepared.
+     */
+    private ResponseEntity<Page<TaskDto>> conditional(WebRequest request, String eTag, Supplier<Page<TaskDto>> page) {
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(page.get());
+    }
 }
@@ -0,0 +1,18 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Class BulkResultDto
+ *
+ * Data Transfer Object (DTO) representing the result of a bulk operation.
+ */
+public record BulkResultDto(
+
+        /**
+         * The number of tasks affected by the operation.
+         */
+        @Schema(description = "number of affected tasks", example = "120")
+        int affected
+) {
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Class CursorPageDto
+ *
+ * Data Transfer Object (DTO) representing one slice of a keyset (cursor) paginated list.
+ * Unlike {@link org.springframework.data.domain.Page}, it carries no total count; the next slice
+ * is requested by passing {@code nextCursor} back as the {@code cursor} parameter.
+ */
+public record CursorPageDto<T>(
+
+        /**
+         * The elements of the current slice.
+         */
+        @Schema(description = "slice content")
+        List<T> content,
+
+        /**
+         * The opaque cursor pointing after the last element of the slice.
+         * Null if this is the last slice.
+         */
+        @Schema(description = "cursor of the next slice (null if there is no next slice)",
+                example = "D1X11WLdRXWfvOxUWHtMaw")
+        String nextCursor,
+
+        /**
+         * Whether there is at least one more element after this slice.
+         */
+        @Schema(description = "true if there is a next slice", example = "true")
+        boolean hasNext
+) {
+}
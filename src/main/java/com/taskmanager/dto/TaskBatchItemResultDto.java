@@ -0,0 +1,35 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Class TaskBatchItemResultDto
+ *
+ * Data Transfer Object (DTO) representing the result of one task of a batch creation request.
+ * Either the id of the created task or the validation errors of the rejected task is set.
+ */
+public record TaskBatchItemResultDto(
+
+        /**
+         * The position of the task in the request body.
+         */
+        @Schema(description = "position of the task in the request", example = "0")
+        int index,
+
+        /**
+         * The id of the created task, null if the task was rejected.
+         */
+        @Schema(description = "created task id - UUID (null if rejected)",
+                example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID id,
+
+        /**
+         * The validation errors of the rejected task, null if the task was created.
+         */
+        @Schema(description = "map of the field and errors description (null if created)",
+                example = "{\"title\": \"Task must have a title\"}")
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,31 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Class TaskBatchResultDto
+ *
+ * Data Transfer Object (DTO) representing the result of a batch creation request.
+ */
+public record TaskBatchResultDto(
+
+        /**
+         * The number of created tasks.
+         */
+        @Schema(description = "number of created tasks", example = "99")
+        int created,
+
+        /**
+         * The number of rejected tasks.
+         */
+        @Schema(description = "number of rejected tasks", example = "1")
+        int rejected,
+
+        /**
+         * The result of every task, in request order.
+         */
+        @Schema(description = "per task results in request order")
+        List<TaskBatchItemResultDto> items
+) {
+}
@@ -0,0 +1,51 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Class TaskBulkFilterDto
+ *
+ * Data Transfer Object (DTO) selecting the tasks of a bulk operation.
+ * Every provided criterion must match (they are combined with AND); at least one criterion is required.
+ */
+public record TaskBulkFilterDto(
+
+        /**
+         * The ids of the tasks (up to 500).
+         */
+        @Size(max = 500, message = "Up to 500 task ids are accepted")
+        @Schema(description = "task ids (up to 500)",
+                example = "[\"550e8400-e29b-41d4-a716-446655440000\"]")
+        List<UUID> ids,
+
+        /**
+         * The current status of the tasks.
+         */
+        @Schema(description = "current task status: pending|in progress|completed", example = "completed")
+        TaskStatus status,
+
+        /**
+         * The id of the executor of the tasks.
+         */
+        @Schema(description = "executor id - UUID", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID executorId,
+
+        /**
+         * Only tasks due strictly before this date are selected.
+         */
+        @Schema(description = "select tasks due before this date", example = "2024-09-01")
+        LocalDate dueBefore
+) {
+
+    /**
+     * @return true if no criterion is provided, i.e. the filter would select every task.
+     */
+    public boolean isEmpty() {
+        return (ids == null || ids.isEmpty()) && status == null && executorId == null && dueBefore == null;
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Class TaskBulkStatusDto
+ *
+ * Data Transfer Object (DTO) representing a bulk status change: the tasks to change and their new status.
+ */
+public record TaskBulkStatusDto(
+
+        /**
+         * The filter selecting the tasks.
+         */
+        @NotNull(message = "Bulk status change must have a filter")
+        @Valid
+        @Schema(description = "tasks to change")
+        TaskBulkFilterDto filter,
+
+        /**
+         * The new status of the tasks.
+         */
+        @NotNull(message = "Bulk status change must have a status")
+        @Valid
+        @Schema(description = "new task status")
+        StatusDto status
+) {
+}
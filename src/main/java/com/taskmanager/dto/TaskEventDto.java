@@ -0,0 +1,65 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.UUID;
+
+/**
+ * Class TaskEventDto
+ *
+ * Data Transfer Object (DTO) representing a committed task change, published to the subscribers of
+ * {@code GET /tasks/stream}.
+ */
+public record TaskEventDto(
+
+        /**
+         * The kind of change.
+         */
+        @Schema(description = "change type: created|updated|status-changed|deleted|bulk-changed", example = "updated")
+        TaskEventType type,
+
+        /**
+         * The id of the changed task (null for bulk changes).
+         */
+        @Schema(description = "task id - UUID", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID taskId,
+
+        /**
+         * The id of the creator of the task (null for bulk changes).
+         */
+        @Schema(description = "creator id - UUID", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID creatorId,
+
+        /**
+         * The id of the executor of the task (null for bulk changes).
+         */
+        @Schema(description = "executor id - UUID", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID executorId,
+
+        /**
+         * The task after the change (null for deletions and bulk changes).
+         */
+        @Schema(description = "task after the change")
+        TaskDto task
+) {
+
+    /**
+     * @return The event of a created, updated or status-changed task.
+     */
+    public static TaskEventDto of(TaskEventType type, TaskDto task) {
+        return new TaskEventDto(type, task.getId(), task.getCreator().getId(), task.getExecutor().getId(), task);
+    }
+
+    /**
+     * @return The event of a deleted task.
+     */
+    public static TaskEventDto deleted(UUID taskId, UUID creatorId, UUID executorId) {
+        return new TaskEventDto(TaskEventType.DELETED, taskId, creatorId, executorId, null);
+    }
+
+    /**
+     * @return The event of a change of an unknown set of tasks.
+     */
+    public static TaskEventDto bulkChanged() {
+        return new TaskEventDto(TaskEventType.BULK_CHANGED, null, null, null, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanager.dto;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Class TaskEventType
+ *
+ * Enum representing the kinds of task change sent by {@code GET /tasks/stream}.
+ * The value is the SSE event name and the {@code type} of the event data.
+ *
+ * <ul>
+ *     <li><b>CREATED</b> - "created": a task was created.</li>
+ *     <li><b>UPDATED</b> - "updated": a task was updated or patched.</li>
+ *     <li><b>STATUS_CHANGED</b> - "status-changed": the status of a task was changed.</li>
+ *     <li><b>DELETED</b> - "deleted": a task was deleted.</li>
+ *     <li><b>BULK_CHANGED</b> - "bulk-changed": an unknown set of tasks was changed (bulk operation or import);
+ *     sent to every subscriber, which should reload its tasks.</li>
+ * </ul>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskEventType {
+    CREATED("created"),
+    UPDATED("updated"),
+    STATUS_CHANGED("status-changed"),
+    DELETED("deleted"),
+    BULK_CHANGED("bulk-changed");
+
+    @JsonValue
+    private final String value;
+}
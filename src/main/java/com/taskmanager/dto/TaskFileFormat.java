@@ -0,0 +1,35 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.exception.BadRequestException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Class TaskFileFormat
+ *
+ * Enum representing the file formats of the task export and import:
+ * one JSON task per line, or CSV with a header row.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskFileFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    /**
+     * Resolves the format from the {@code format} request parameter (case-insensitive).
+     *
+     * @param format The name of the format.
+     * @return The matching {@link TaskFileFormat}.
+     * @throws BadRequestException If the format is not supported.
+     */
+    public static TaskFileFormat fromParameter(String format) {
+        for (TaskFileFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) return value;
+        }
+        throw new BadRequestException("Formats that are acceptable: ndjson|csv");
+    }
+}
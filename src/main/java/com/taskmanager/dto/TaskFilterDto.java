@@ -0,0 +1,56 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.format.annotation.DateTimeFormat;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Class TaskFilterDto
+ *
+ * Data Transfer Object (DTO) representing the optional criteria of the task filter, bound from the query parameters.
+ * Every provided criterion must match (they are combined with AND).
+ */
+public record TaskFilterDto(
+
+        /**
+         * The status of the tasks.
+         */
+        @Schema(description = "task status: pending|in progress|completed", example = "pending")
+        TaskStatus status,
+
+        /**
+         * The priority of the tasks.
+         */
+        @Schema(description = "task priority: high|mid|low", example = "high")
+        TaskPriority priority,
+
+        /**
+         * The id of the creator of the tasks.
+         */
+        @Schema(description = "creator id - UUID", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID creatorId,
+
+        /**
+         * The id of the executor of the tasks.
+         */
+        @Schema(description = "executor id - UUID", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID executorId,
+
+        /**
+         * Only tasks due on or after this date are selected.
+         */
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Schema(description = "select tasks due on or after this date", example = "2024-09-02")
+        LocalDate dueFrom,
+
+        /**
+         * Only tasks due on or before this date are selected.
+         */
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+        @Schema(description = "select tasks due on or before this date", example = "2024-09-08")
+        LocalDate dueTo
+) {
+}
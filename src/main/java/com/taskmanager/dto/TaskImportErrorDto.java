@@ -0,0 +1,26 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+
+/**
+ * Class TaskImportErrorDto
+ *
+ * Data Transfer Object (DTO) representing a row rejected by a task import.
+ */
+public record TaskImportErrorDto(
+
+        /**
+         * The number of the rejected row in the imported file (the CSV header is row 1).
+         */
+        @Schema(description = "row number in the imported file", example = "42")
+        long line,
+
+        /**
+         * The reasons the row was rejected.
+         */
+        @Schema(description = "map of the field and errors description",
+                example = "{\"priority\": \"Priorities that are acceptable: high|mid|low\"}")
+        Map<String, String> errors
+) {
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * Class TaskImportResultDto
+ *
+ * Data Transfer Object (DTO) representing the report of a task import.
+ */
+public record TaskImportResultDto(
+
+        /**
+         * The number of imported tasks.
+         */
+        @Schema(description = "number of imported tasks", example = "999000")
+        long imported,
+
+        /**
+         * The number of rejected rows.
+         */
+        @Schema(description = "number of rejected rows", example = "1000")
+        long rejected,
+
+        /**
+         * The rejected rows, in file order (only the first 1000 are reported).
+         */
+        @Schema(description = "rejected rows (first 1000)")
+        List<TaskImportErrorDto> errors,
+
+        /**
+         * The duration of the import in milliseconds.
+         */
+        @Schema(description = "import duration in milliseconds", example = "12500")
+        long durationMs,
+
+        /**
+         * The number of rows read per second.
+         */
+        @Schema(description = "rows read per second", example = "80000")
+        long rowsPerSecond
+) {
+}
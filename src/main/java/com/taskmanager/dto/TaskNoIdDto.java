@@ -1,9 +1,10 @@
 package com.taskmanager.dto;
 
 
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import java.time.LocalDate;
@@ -54,20 +55,16 @@ public class TaskNoIdDto {
          * The status must be one of the following: "pending", "in progress", or "completed".
          */
         @NotNull(message = "Task status must have a name")
-        @Pattern(regexp = "^(pending|in progress|completed)$",
-                message = "Statuses that are acceptable: pending|in progress|completed")
         @Schema(description = "Task status name: pending|in progress|completed", example = "completed")
-        private String status;
+        private TaskStatus status;
 
         /**
          * The priority of the task.
          * The priority must be one of the following: "high", "mid", or "low".
          */
         @NotNull(message = "Task must have a priority")
-        @Pattern(regexp = "^(high|mid|low)$",
-                message = "Priorities that are acceptable: high|mid|low")
         @Schema(description = "task priority: high|mid|low", example = "low")
-        private String priority;
+        private TaskPriority priority;
         /**
          * The due date of the task.
          * This is the date by which the task should be completed.
@@ -0,0 +1,40 @@
+package com.taskmanager.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Class TaskStatsDto
+ *
+ * Data Transfer Object (DTO) representing the task counts of one executor, or of all tasks.
+ */
+public record TaskStatsDto(
+
+        /**
+         * The id of the executor of the counted tasks, or null if all tasks are counted.
+         */
+        @Schema(description = "executor id - UUID, null for all tasks", example = "550e8400-e29b-41d4-a716-446655440000")
+        UUID executorId,
+
+        /**
+         * The number of tasks.
+         */
+        @Schema(description = "number of tasks", example = "42")
+        long total,
+
+        /**
+         * The number of tasks per status (every status is present).
+         */
+        @Schema(description = "number of tasks per status",
+                example = "{\"pending\": 20, \"in progress\": 12, \"completed\": 10}")
+        Map<String, Long> byStatus,
+
+        /**
+         * The number of tasks per priority (every priority is present).
+         */
+        @Schema(description = "number of tasks per priority",
+                example = "{\"high\": 8, \"mid\": 30, \"low\": 4}")
+        Map<String, Long> byPriority
+) {
+}
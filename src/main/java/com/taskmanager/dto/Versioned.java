@@ -0,0 +1,15 @@
+package com.taskmanager.dto;
+
+/**
+ * Class Versioned
+ *
+ * A DTO together with the version of the entity it was read from, used to build the ETag of the response.
+ *
+ * @param content The DTO.
+ * @param version The version of the entity.
+ */
+public record Versioned<T>(
+        T content,
+        long version
+) {
+}
@@ -0,0 +1,17 @@
+package com.taskmanager.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Class TaskVersionView
+ *
+ * Read-only projection of the id and version of a task: the cheap signal the ETags of task lists are built from.
+ *
+ * @param id The id of the task.
+ * @param version The version of the task, incremented on every change.
+ */
+public record TaskVersionView(
+        UUID id,
+        long version
+) {
+}
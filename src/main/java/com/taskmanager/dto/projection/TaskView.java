@@ -0,0 +1,33 @@
+package com.taskmanager.dto.projection;
+
+import com.taskmanager.config.Role;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Class TaskView
+ *
+ * Read-only projection of a task row joined with its creator and executor.
+ * It holds only the columns needed to build a {@link com.taskmanager.dto.TaskDto}
+ * (the user passwords are never selected), plus the task version, and is not managed by the persistence context.
+ */
+public record TaskView(
+        UUID id,
+        String title,
+        String description,
+        TaskStatus status,
+        TaskPriority priority,
+        LocalDate dueDate,
+        UUID creatorId,
+        String creatorFullName,
+        String creatorEmail,
+        Role creatorRole,
+        UUID executorId,
+        String executorFullName,
+        String executorEmail,
+        Role executorRole,
+        long version
+) {
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.dto.projection;
+
+import com.taskmanager.config.Role;
+import java.util.UUID;
+
+/**
+ * Class UserView
+ *
+ * Read-only projection of a user row: the columns put in the access tokens and needed to reference the user,
+ * without the password. It is not managed by the persistence context, so it can be cached.
+ */
+public record UserView(
+        UUID id,
+        String fullName,
+        String email,
+        Role role
+) {
+}
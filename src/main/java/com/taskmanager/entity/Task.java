@@ -1,8 +1,9 @@
 package com.taskmanager.entity;
 
+import com.taskmanager.entity.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDate;
 import java.util.UUID;
 
@@ -10,8 +11,10 @@ import java.util.UUID;
  * Class Task
  * Entity class representing a task in the system.
  * A task has a title, description, status, priority, creator, executor, and associated comments.
+ * Updates only write the changed columns ({@link DynamicUpdate}).
  */
 @Entity
+@DynamicUpdate
 @Table(name = "tasks")
 @AllArgsConstructor
 @NoArgsConstructor
@@ -22,11 +25,10 @@ public class Task {
 
     /**
      * The unique identifier of the task.
-     * This is a UUID that uniquely identifies the task.
+     * This is a time-ordered UUID that uniquely identifies the task.
      */
     @Id
-    @GeneratedValue
-    @UuidGenerator
+    @TimeOrderedUuid
     private UUID id;
 
     /**
@@ -43,15 +45,15 @@ public class Task {
 
     /**
      * The status of the task.
-     * Possible statuses: "pending", "in progress", or "completed".
+     * Stored as a {@code smallint} code (see {@link TaskStatus}).
      */
-    private String status;
+    private TaskStatus status;
 
     /**
      * The priority of the task.
-     * Possible priorities: "high", "mid", or "low".
+     * Stored as a {@code smallint} code (see {@link TaskPriority}).
      */
-    private String priority;
+    private TaskPriority priority;
 
     // And add this field to the Task class:
     /**
@@ -64,20 +66,29 @@ public class Task {
     /**
      * The creator of the task.
      * This is a reference to the user who created the task.
+     * Loaded lazily; queries that need it fetch it explicitly (see {@code TaskRepository}).
      *
      * @see User
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_creator", nullable = false)
     private User creator;
 
     /**
      * The executor of the task.
      * This is a reference to the user assigned to execute the task.
+     * Loaded lazily; queries that need it fetch it explicitly (see {@code TaskRepository}).
      *
      * @see User
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_executor", nullable = false)
     private User executor;
+
+    /**
+     * The version of the task.
+     * Incremented on every change; used for optimistic locking and as the ETag of the task.
+     */
+    @Version
+    private Long version;
 }
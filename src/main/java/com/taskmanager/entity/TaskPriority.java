@@ -0,0 +1,65 @@
+package com.taskmanager.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Class TaskPriority
+ *
+ * Enum representing the priority of a task.
+ * A priority is stored as its {@code smallint} code (see {@link com.taskmanager.entity.converter.TaskPriorityConverter})
+ * and read and written in JSON and request parameters as its value. Codes grow with the priority.
+ *
+ * <ul>
+ *     <li><b>LOW</b> - "low", code 0.</li>
+ *     <li><b>MID</b> - "mid", code 1.</li>
+ *     <li><b>HIGH</b> - "high", code 2.</li>
+ * </ul>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskPriority {
+    LOW((short) 0, "low"),
+    MID((short) 1, "mid"),
+    HIGH((short) 2, "high");
+
+    private static final String ACCEPTABLE = "Priorities that are acceptable: high|mid|low";
+
+    /**
+     * The stored code of the priority; codes must never be reassigned.
+     */
+    private final short code;
+
+    /**
+     * The value of the priority in JSON and request parameters.
+     */
+    @JsonValue
+    private final String value;
+
+    /**
+     * @param value The value of a priority, e.g. "high".
+     * @return The priority with this value.
+     * @throws IllegalArgumentException If no priority has this value.
+     */
+    @JsonCreator
+    public static TaskPriority fromValue(String value) {
+        for (TaskPriority priority : values()) {
+            if (priority.value.equals(value)) return priority;
+        }
+        throw new IllegalArgumentException(ACCEPTABLE);
+    }
+
+    /**
+     * @param code The stored code of a priority.
+     * @return The priority with this code.
+     * @throws IllegalArgumentException If no priority has this code.
+     */
+    public static TaskPriority fromCode(short code) {
+        for (TaskPriority priority : values()) {
+            if (priority.code == code) return priority;
+        }
+        throw new IllegalArgumentException("Unknown task priority code: " + code);
+    }
+}
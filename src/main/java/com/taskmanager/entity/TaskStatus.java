@@ -0,0 +1,65 @@
+package com.taskmanager.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Class TaskStatus
+ *
+ * Enum representing the status of a task.
+ * A status is stored as its {@code smallint} code (see {@link com.taskmanager.entity.converter.TaskStatusConverter})
+ * and read and written in JSON and request parameters as its value.
+ *
+ * <ul>
+ *     <li><b>PENDING</b> - "pending", code 0.</li>
+ *     <li><b>IN_PROGRESS</b> - "in progress", code 1.</li>
+ *     <li><b>COMPLETED</b> - "completed", code 2.</li>
+ * </ul>
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskStatus {
+    PENDING((short) 0, "pending"),
+    IN_PROGRESS((short) 1, "in progress"),
+    COMPLETED((short) 2, "completed");
+
+    private static final String ACCEPTABLE = "Statuses that are acceptable: pending|in progress|completed";
+
+    /**
+     * The stored code of the status; codes must never be reassigned.
+     */
+    private final short code;
+
+    /**
+     * The value of the status in JSON and request parameters.
+     */
+    @JsonValue
+    private final String value;
+
+    /**
+     * @param value The value of a status, e.g. "in progress".
+     * @return The status with this value.
+     * @throws IllegalArgumentException If no status has this value.
+     */
+    @JsonCreator
+    public static TaskStatus fromValue(String value) {
+        for (TaskStatus status : values()) {
+            if (status.value.equals(value)) return status;
+        }
+        throw new IllegalArgumentException(ACCEPTABLE);
+    }
+
+    /**
+     * @param code The stored code of a status.
+     * @return The status with this code.
+     * @throws IllegalArgumentException If no status has this code.
+     */
+    public static TaskStatus fromCode(short code) {
+        for (TaskStatus status : values()) {
+            if (status.code == code) return status;
+        }
+        throw new IllegalArgumentException("Unknown task status code: " + code);
+    }
+}
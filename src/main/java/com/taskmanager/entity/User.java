@@ -1,9 +1,10 @@
 package com.taskmanager.entity;
 
 import com.taskmanager.config.Role;
+import com.taskmanager.entity.id.TimeOrderedUuid;
+import com.taskmanager.service.UserCacheEvictionListener;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -16,8 +17,10 @@ import java.util.UUID;
  *
  * Entity class representing a user in the system.
  * This class implements the {@link UserDetails} interface to provide user-specific data to Spring Security.
+ * Users are evicted from the user service caches by {@link UserCacheEvictionListener} when they change.
  */
 @Entity
+@EntityListeners(UserCacheEvictionListener.class)
 @Table(name = "users")
 @AllArgsConstructor
 @NoArgsConstructor
@@ -28,11 +31,10 @@ public class User implements UserDetails {
 
     /**
      * The unique identifier of the user.
-     * This is a UUID that uniquely identifies the user.
+     * This is a time-ordered UUID that uniquely identifies the user.
      */
     @Id
-    @GeneratedValue
-    @UuidGenerator
+    @TimeOrderedUuid
     private UUID id;
 
     /**
@@ -0,0 +1,24 @@
+package com.taskmanager.entity.converter;
+
+import com.taskmanager.entity.TaskPriority;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Class TaskPriorityConverter
+ *
+ * Stores every {@link TaskPriority} attribute as its {@code smallint} code.
+ */
+@Converter(autoApply = true)
+public class TaskPriorityConverter implements AttributeConverter<TaskPriority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TaskPriority priority) {
+        return priority == null ? null : priority.getCode();
+    }
+
+    @Override
+    public TaskPriority convertToEntityAttribute(Short code) {
+        return code == null ? null : TaskPriority.fromCode(code);
+    }
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Class TimeOrderedUuid
+ *
+ * Marks an entity id generated by {@link TimeOrderedUuidGenerator}: a time-ordered (version 7) UUID
+ * created by the application, without a database round-trip.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,66 @@
+package com.taskmanager.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+/**
+ * Class TimeOrderedUuidGenerator
+ *
+ * Generates version 7 UUIDs (RFC 9562): a 48-bit Unix millisecond timestamp, a 12-bit counter and 62 random bits.
+ * The ids generated by one application instance are strictly increasing, so new rows are appended at the
+ * right edge of the primary key index instead of being scattered across it like random (version 4) UUIDs.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_COUNTER = 0xFFF;
+
+    private static long lastMillis;
+    private static int counter;
+
+    public TimeOrderedUuidGenerator(TimeOrderedUuid config, Member idMember, CustomIdGeneratorCreationContext creationContext) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    /**
+     * Generates the next time-ordered UUID.
+     * Within one millisecond the counter is incremented; when it overflows, or when the clock moves backwards,
+     * the timestamp of the previous id is advanced instead, so the ids never decrease.
+     *
+     * @return a new version 7 UUID.
+     */
+    public static UUID next() {
+        long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(nextMostSigBits(), leastSigBits);
+    }
+
+    private static synchronized long nextMostSigBits() {
+        long now = System.currentTimeMillis();
+        if (now > lastMillis) {
+            lastMillis = now;
+            // start low in the counter range to leave room for the ids of the same millisecond
+            counter = RANDOM.nextInt(MAX_COUNTER >> 1);
+        } else if (++counter > MAX_COUNTER) {
+            lastMillis++;
+            counter = 0;
+        }
+        return (lastMillis << 16) | 0x7000L | counter;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmanager.exception;
+
+/**
+ * Class PreconditionFailedException
+ *
+ * Custom exception class for handling failed conditional requests.
+ * This exception is thrown when the resource has changed since the version given in an {@code If-Match} header.
+ */
+public class PreconditionFailedException extends RuntimeException{
+
+    /**
+     * Constructor for creating a new instance of PreconditionFailedException.
+     *
+     * @param errorMessage The message that explains why the precondition failed.
+     */
+    public PreconditionFailedException(String errorMessage){
+        super(errorMessage);
+    }
+}
@@ -1,21 +1,32 @@
 package com.taskmanager.exceptionHandler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.taskmanager.config.concurrency.AdmissionControlDataSource.AdmissionTimeoutException;
 import com.taskmanager.dto.error.ErrorMessageResponseDto;
 import com.taskmanager.dto.error.ValidationErrorMessageResponseDto;
 import com.taskmanager.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * Class ExceptionControllerAdvice
@@ -113,6 +124,65 @@ public class ExceptionControllerAdvice{
                 .body(getResponseBody(e.getMessage()));
     }
 
+    /**
+     * Handles PreconditionFailedException and returns a PRECONDITION_FAILED response with the error message.
+     *
+     * @param e The PreconditionFailedException to be handled.
+     * @return A ResponseEntity with a custom error message and a PRECONDITION_FAILED status.
+     * @throws JsonProcessingException if the error message cannot be processed.
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorMessageResponseDto> preconditionFailedExceptionHandler(PreconditionFailedException e) throws JsonProcessingException{
+
+        log.error("Exception: PreconditionFailedException. " +
+                "Exception message: " + e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(getResponseBody(e.getMessage()));
+    }
+
+    /**
+     * Handles ObjectOptimisticLockingFailureException (a concurrent update of the same version)
+     * and returns a PRECONDITION_FAILED response with the error message.
+     *
+     * @param e The ObjectOptimisticLockingFailureException to be handled.
+     * @return A ResponseEntity with a custom error message and a PRECONDITION_FAILED status.
+     * @throws JsonProcessingException if the error message cannot be processed.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorMessageResponseDto> optimisticLockingFailureExceptionHandler(
+            ObjectOptimisticLockingFailureException e) throws JsonProcessingException{
+
+        log.error("Exception: ObjectOptimisticLockingFailureException. " +
+                "Exception message: " + e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(getResponseBody("The task has been changed by another request"));
+    }
+
+    /**
+     * Handles a data access or transaction failure caused by an {@link AdmissionTimeoutException} (too many
+     * requests waiting for a database connection) and returns a SERVICE_UNAVAILABLE response asking the client
+     * to retry. Other failures are left to the default handling.
+     *
+     * @param e The DataAccessException or TransactionException to be handled.
+     * @return A ResponseEntity with a custom error message, a SERVICE_UNAVAILABLE status and a Retry-After header.
+     * @throws NestedRuntimeException The exception itself if it was not caused by an admission timeout.
+     * @throws JsonProcessingException if the error message cannot be processed.
+     */
+    @ExceptionHandler({DataAccessException.class, TransactionException.class})
+    public ResponseEntity<ErrorMessageResponseDto> admissionTimeoutExceptionHandler(
+            NestedRuntimeException e) throws JsonProcessingException {
+
+        if (!e.contains(AdmissionTimeoutException.class)) throw e;
+        log.warn("Exception: AdmissionTimeoutException. " +
+                "Exception message: " + e.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(getResponseBody("Too many concurrent requests, retry later"));
+    }
+
     /**
      * Handles ValidException and returns a BAD_REQUEST response with the error message.
      *
@@ -132,9 +202,69 @@ public class ExceptionControllerAdvice{
                 .body(getResponseBody(e.getMessage()));
     }
 
+    /**
+     * Handles MethodArgumentTypeMismatchException and returns a BAD_REQUEST response with the error message.
+     * This is triggered for request parameters that can't be converted (e.g., an unknown task status).
+     *
+     * @param e The MethodArgumentTypeMismatchException to be handled.
+     * @return A ResponseEntity with a custom error message and a BAD_REQUEST status.
+     * @throws JsonProcessingException if the error message cannot be processed.
+     */
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorMessageResponseDto> typeMismatchExceptionHandler(
+            MethodArgumentTypeMismatchException e) throws JsonProcessingException {
+
+        String message = e.getMostSpecificCause() instanceof IllegalArgumentException cause
+                ? cause.getMessage()
+                : "Non valid value of parameter " + e.getName();
+        log.error("Exception: MethodArgumentTypeMismatchException. " +
+                "Exception message: " + message);
+
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(getResponseBody(message));
+    }
+
+    /**
+     * Handles HttpMessageNotReadableException caused by an unknown enum value (e.g., a task status or priority)
+     * and returns a BAD_REQUEST response with a validation error message for the field.
+     * Other unreadable bodies get a BAD_REQUEST response with a generic error message.
+     *
+     * @param e The HttpMessageNotReadableException to be handled.
+     * @return A ResponseEntity with an error message and a BAD_REQUEST status.
+     * @throws JsonProcessingException if the error message cannot be processed.
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<?> messageNotReadableExceptionHandler(
+            HttpMessageNotReadableException e) throws JsonProcessingException {
+
+        log.error("Exception: HttpMessageNotReadableException. " +
+                "Exception message: " + e.getMessage());
+
+        if (e.getCause() instanceof ValueInstantiationException cause
+                && cause.getCause() instanceof IllegalArgumentException && !cause.getPath().isEmpty()) {
+            String field = cause.getPath().stream()
+                    .map(reference -> reference.getFieldName() != null
+                            ? reference.getFieldName()
+                            : String.valueOf(reference.getIndex()))
+                    .collect(Collectors.joining("."));
+            ValidationErrorMessageResponseDto validErrorMessageResponseDto = ValidationErrorMessageResponseDto.builder()
+                    .dateTime("UTC: " + formatter.format(Instant.now().atZone(ZoneId.of("UTC"))))
+                    .errorsMap(Map.of(field, cause.getCause().getMessage()))
+                    .build();
+            return ResponseEntity
+                    .status(HttpStatus.BAD_REQUEST)
+                    .body(validErrorMessageResponseDto);
+        }
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(getResponseBody("Non valid request body"));
+    }
+
     /**
      * Handles MethodArgumentNotValidException and returns a BAD_REQUEST response with a validation error message.
-     * This is triggered for invalid method arguments (e.g., invalid field values).
+     * This is triggered for invalid method arguments (e.g., invalid field values). A query parameter bound to a field
+     * that can't be converted (e.g., an unknown task status of the filter) gets the message of the conversion.
      *
      * @param e The MethodArgumentNotValidException to be handled.
      * @return A ResponseEntity with a validation error message and a BAD_REQUEST status.
@@ -151,6 +281,11 @@ public class ExceptionControllerAdvice{
 
             if (error instanceof FieldError) {
                 fieldName = ((FieldError) error).getField();
+                if (error.contains(TypeMismatchException.class)
+                        && error.unwrap(TypeMismatchException.class).getMostSpecificCause()
+                                instanceof IllegalArgumentException cause) {
+                    errorMessage = cause.getMessage();
+                }
             } else {
                 fieldName = error.getObjectName();
             }
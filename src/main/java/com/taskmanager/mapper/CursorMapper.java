@@ -0,0 +1,47 @@
+package com.taskmanager.mapper;
+
+import com.taskmanager.exception.BadRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Class CursorMapper
+ *
+ * Converts the id of the last task of a slice to an opaque cursor string and back.
+ * The cursor is the URL-safe Base64 form of the task id, used as the seek key of keyset pagination.
+ * Task ids are time-ordered, so the slices follow the creation order of the tasks.
+ */
+public class CursorMapper {
+
+    /**
+     * The smallest possible task id, used as the seek key of the first slice.
+     */
+    public static final UUID FIRST = new UUID(0L, 0L);
+
+    public static String toCursor(UUID id) {
+        if (id == null) return null;
+
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static UUID toId(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST;
+
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Non valid cursor");
+        }
+        if (bytes.length != 16) {
+            throw new BadRequestException("Non valid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -0,0 +1,62 @@
+package com.taskmanager.mapper;
+
+import com.taskmanager.dto.projection.TaskVersionView;
+import com.taskmanager.exception.BadRequestException;
+import org.springframework.data.domain.Page;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Class ETagMapper
+ *
+ * Builds strong ETags from task versions, and reads versions back from {@code If-Match} headers.
+ * The ETag of a task is its version; the ETag of a page is a digest of the total count and of the
+ * id and version of every task of the page, so it changes when a task of the page is changed,
+ * added or removed, or when the total count changes.
+ */
+public class ETagMapper {
+
+    public static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String toETag(Page<TaskVersionView> page) {
+        ByteBuffer buffer = ByteBuffer.allocate(8 + page.getNumberOfElements() * 24);
+        buffer.putLong(page.getTotalElements());
+        for (TaskVersionView task : page) {
+            buffer.putLong(task.id().getMostSignificantBits());
+            buffer.putLong(task.id().getLeastSignificantBits());
+            buffer.putLong(task.version());
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(buffer.array());
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash).substring(0, 22) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Reads the expected version from an {@code If-Match} header.
+     *
+     * @param ifMatch The header value: a strong ETag of a task, {@code *} or null.
+     * @return The expected version, or null if any version matches.
+     * @throws BadRequestException If the header is not an ETag of a task.
+     */
+    public static Long toVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) return null;
+
+        String eTag = ifMatch.trim();
+        if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+            throw new BadRequestException("If-Match must be a strong ETag of the task");
+        }
+        try {
+            return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("If-Match must be a strong ETag of the task");
+        }
+    }
+}
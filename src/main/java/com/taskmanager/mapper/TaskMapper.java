@@ -0,0 +1,91 @@
+package com.taskmanager.mapper;
+
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskNoIdDto;
+import com.taskmanager.dto.UserDto;
+import com.taskmanager.dto.projection.TaskView;
+import com.taskmanager.entity.Task;
+
+/**
+ * Class TaskMapper
+ *
+ * Maps {@link Task} entities to {@link TaskDto} and task DTOs back to entities.
+ * The users are mapped with {@link UserMapper}, so passwords are never exposed.
+ */
+public class TaskMapper {
+
+    public static TaskDto toDto(Task task) {
+        if (task == null) return null;
+
+        return toDto(task, UserMapper.toDto(task.getCreator()), UserMapper.toDto(task.getExecutor()));
+    }
+
+    public static TaskDto toDto(Task task, UserDto creator, UserDto executor) {
+        if (task == null) return null;
+
+        return TaskDto.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .dueDate(task.getDueDate())
+                .creator(creator)
+                .executor(executor)
+                .build();
+    }
+
+    public static TaskDto toDto(TaskView taskView) {
+        if (taskView == null) return null;
+
+        return TaskDto.builder()
+                .id(taskView.id())
+                .title(taskView.title())
+                .description(taskView.description())
+                .status(taskView.status())
+                .priority(taskView.priority())
+                .dueDate(taskView.dueDate())
+                .creator(UserDto.builder()
+                        .id(taskView.creatorId())
+                        .fullName(taskView.creatorFullName())
+                        .email(taskView.creatorEmail())
+                        .role(taskView.creatorRole())
+                        .build())
+                .executor(UserDto.builder()
+                        .id(taskView.executorId())
+                        .fullName(taskView.executorFullName())
+                        .email(taskView.executorEmail())
+                        .role(taskView.executorRole())
+                        .build())
+                .build();
+    }
+
+    public static Task toEntity(TaskNoIdDto taskNoIdDto) {
+        if (taskNoIdDto == null) return null;
+
+        return Task.builder()
+                .title(taskNoIdDto.getTitle())
+                .description(taskNoIdDto.getDescription())
+                .status(taskNoIdDto.getStatus())
+                .priority(taskNoIdDto.getPriority())
+                .dueDate(taskNoIdDto.getDueDate())
+                .creator(UserMapper.toEntity(taskNoIdDto.getCreator()))
+                .executor(UserMapper.toEntity(taskNoIdDto.getExecutor()))
+                .build();
+    }
+
+    public static Task toEntity(TaskDto taskDto) {
+        if (taskDto == null) return null;
+
+        return Task.builder()
+                .id(taskDto.getId())
+                .title(taskDto.getTitle())
+                .description(taskDto.getDescription())
+                .status(taskDto.getStatus())
+                .priority(taskDto.getPriority())
+                .dueDate(taskDto.getDueDate())
+                .creator(UserMapper.toEntity(taskDto.getCreator()))
+                .executor(UserMapper.toEntity(taskDto.getExecutor()))
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.taskmanager.mapper;
+import com.taskmanager.config.jwt.JwtAuthentication;
 import com.taskmanager.dto.UserDto;
+import com.taskmanager.dto.projection.UserView;
 import com.taskmanager.entity.User;
 
 public class UserMapper {
@@ -16,6 +18,28 @@ public class UserMapper {
                 .build();
     }
 
+    public static UserDto toDto(UserView userView) {
+        if (userView == null) return null;
+
+        return UserDto.builder()
+                .id(userView.id())
+                .fullName(userView.fullName())
+                .email(userView.email())
+                .role(userView.role())
+                .build();
+    }
+
+    public static UserDto toDto(JwtAuthentication authentication) {
+        if (authentication == null) return null;
+
+        return UserDto.builder()
+                .id(authentication.getUserId())
+                .fullName(authentication.getFullName())
+                .email(authentication.getEmail())
+                .role(authentication.getRole())
+                .build();
+    }
+
     public static User toEntity(UserDto userDto) {
         if (userDto == null) return null;
 
@@ -1,23 +1,63 @@
 package com.taskmanager.repository;
 
-import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.projection.TaskVersionView;
+import com.taskmanager.dto.projection.TaskView;
 import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskStatus;
 import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Class TaskRepository
  *
  * Repository interface for performing CRUD operations on the Task entity.
- * This interface extends JpaRepository to provide standard database operations and custom queries.
+ * This interface extends JpaRepository to provide standard database operations and custom queries,
+ * and {@link TaskRepositoryCustom} for the multi-criteria projections and set-based bulk statements.
  */
 @Hidden
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+
+    /**
+     * Selects a {@link TaskView} projection: the task columns plus the creator and executor
+     * columns needed by {@link com.taskmanager.dto.TaskDto} and the task version, without loading any entity.
+     */
+    String TASK_VIEW = "SELECT new com.taskmanager.dto.projection.TaskView(" +
+            "t.id, t.title, t.description, t.status, t.priority, t.dueDate, " +
+            "c.id, c.fullName, c.email, c.role, " +
+            "e.id, e.fullName, e.email, e.role, t.version) " +
+            "FROM Task t JOIN t.creator c JOIN t.executor e";
+
+    /**
+     * Selects a {@link TaskVersionView} projection: the id and version of the tasks only.
+     */
+    String TASK_VERSION = "SELECT new com.taskmanager.dto.projection.TaskVersionView(t.id, t.version) FROM Task t";
+
+    /**
+     * The optional status and executor filters of the full-text search.
+     */
+    String SEARCH_FILTERS = " AND (CAST(:status AS smallint) IS NULL OR t.status = :status)" +
+            " AND (CAST(:executorId AS uuid) IS NULL OR t.id_executor = :executorId)";
+
+    /**
+     * The number of rows fetched per round trip when streaming tasks.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
 
     /**
      * Deletes a task by its ID.
@@ -27,38 +67,222 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
     void deleteById(UUID id);
 
     /**
-     * Retrieves tasks by status with pagination support.
+     * Checks whether a task with a specific ID exists and is assigned to an executor with a given email.
+     *
+     * @param id The UUID of the task.
+     * @param email The email of the executor.
+     * @return true if the task exists and is assigned to the executor, otherwise false.
+     */
+    boolean existsByIdAndExecutorEmail(UUID id, String email);
+
+    /**
+     * Retrieves a task together with its creator and executor in a single statement.
+     *
+     * @param id The UUID of the task.
+     * @return An Optional containing the task with initialized users, or empty if no task is found.
+     */
+    @EntityGraph(attributePaths = {"creator", "executor"})
+    Optional<Task> findWithUsersById(UUID id);
+
+    /**
+     * Changes the status of a task in a single conditional statement, only if it differs from the current one.
+     * The version of the task is incremented as well.
+     * Concurrent calls with the same status cannot both succeed: the second one re-checks the row after the
+     * first one commits and updates nothing.
+     *
+     * @param id The UUID of the task.
+     * @param status The new status.
+     * @return 1 if the status was changed, 0 if the task does not exist or already has this status.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1 WHERE t.id = :id AND t.status <> :status")
+    int updateStatusIfDifferent(@Param("id") UUID id, @Param("status") TaskStatus status);
+
+    /**
+     * Retrieves a task as a read-only {@link TaskView} projection.
+     *
+     * @param id The UUID of the task.
+     * @return An Optional containing the task, or empty if no task is found.
+     */
+    @Query(TASK_VIEW + " WHERE t.id = :id")
+    Optional<TaskView> findViewById(@Param("id") UUID id);
+
+    /**
+     * Retrieves all tasks as read-only {@link TaskView} projections with pagination support.
      *
      * @param pageable The pagination information.
-     * @param status The status of the tasks.
      * @return A {@link Page} containing all tasks.
      */
-    Page<Task> findByStatus(String status, Pageable pageable);
+    @Query(value = TASK_VIEW + " ORDER BY t.id", countQuery = "SELECT count(t) FROM Task t")
+    Page<TaskView> findAllViews(Pageable pageable);
 
     /**
-     * Retrieves a paginated list of tasks created by a specific user.
+     * Retrieves tasks by status as read-only {@link TaskView} projections with pagination support.
+     *
+     * @param status The status of the tasks.
+     * @param pageable The pagination information.
+     * @return A {@link Page} containing the tasks with the given status.
+     */
+    @Query(value = TASK_VIEW + " WHERE t.status = :status ORDER BY t.id",
+            countQuery = "SELECT count(t) FROM Task t WHERE t.status = :status")
+    Page<TaskView> findViewsByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    /**
+     * Retrieves tasks created by a specific user as read-only {@link TaskView} projections with pagination support.
      *
      * @param id The UUID of the user who created the tasks.
      * @param pageable The pagination information.
-     * @return A Page containing the tasks created by the specified user.
+     * @return A {@link Page} containing the tasks created by the specified user.
      */
-    Page<Task> findAllByCreatorId(UUID id, Pageable pageable);
+    @Query(value = TASK_VIEW + " WHERE t.creator.id = :id ORDER BY t.id",
+            countQuery = "SELECT count(t) FROM Task t WHERE t.creator.id = :id")
+    Page<TaskView> findViewsByCreatorId(@Param("id") UUID id, Pageable pageable);
 
     /**
-     * Retrieves a paginated list of tasks assigned to a specific executor.
+     * Retrieves tasks assigned to a specific executor as read-only {@link TaskView} projections with pagination support.
      *
      * @param id The UUID of the executor.
      * @param pageable The pagination information.
-     * @return A Page containing the tasks assigned to the specified executor.
+     * @return A {@link Page} containing the tasks assigned to the specified executor.
      */
-    Page<Task> findAllByExecutorId(UUID id, Pageable pageable);
+    @Query(value = TASK_VIEW + " WHERE t.executor.id = :id ORDER BY t.id",
+            countQuery = "SELECT count(t) FROM Task t WHERE t.executor.id = :id")
+    Page<TaskView> findViewsByExecutorId(@Param("id") UUID id, Pageable pageable);
 
     /**
-     * Checks whether a task with a specific ID exists and is assigned to an executor with a given email.
+     * Retrieves the ids and versions of the tasks of a {@link #findAllViews} page, without joining the users.
      *
-     * @param id The UUID of the task.
-     * @param email The email of the executor.
-     * @return true if the task exists and is assigned to the executor, otherwise false.
+     * @param pageable The pagination information.
+     * @return A {@link Page} of {@link TaskVersionView}.
      */
-    boolean existsByIdAndExecutorEmail(UUID id, String email);
+    @Query(value = TASK_VERSION + " ORDER BY t.id", countQuery = "SELECT count(t) FROM Task t")
+    Page<TaskVersionView> findAllVersions(Pageable pageable);
+
+    /**
+     * Retrieves the ids and versions of the tasks of a {@link #findViewsByStatus} page, without joining the users.
+     *
+     * @param status The status of the tasks.
+     * @param pageable The pagination information.
+     * @return A {@link Page} of {@link TaskVersionView}.
+     */
+    @Query(value = TASK_VERSION + " WHERE t.status = :status ORDER BY t.id",
+            countQuery = "SELECT count(t) FROM Task t WHERE t.status = :status")
+    Page<TaskVersionView> findVersionsByStatus(@Param("status") TaskStatus status, Pageable pageable);
+
+    /**
+     * Retrieves the ids and versions of the tasks of a {@link #findViewsByCreatorId} page, without joining the users.
+     *
+     * @param id The UUID of the user who created the tasks.
+     * @param pageable The pagination information.
+     * @return A {@link Page} of {@link TaskVersionView}.
+     */
+    @Query(value = TASK_VERSION + " WHERE t.creator.id = :id ORDER BY t.id",
+            countQuery = "SELECT count(t) FROM Task t WHERE t.creator.id = :id")
+    Page<TaskVersionView> findVersionsByCreatorId(@Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Retrieves the ids and versions of the tasks of a {@link #findViewsByExecutorId} page, without joining the users.
+     *
+     * @param id The UUID of the executor.
+     * @param pageable The pagination information.
+     * @return A {@link Page} of {@link TaskVersionView}.
+     */
+    @Query(value = TASK_VERSION + " WHERE t.executor.id = :id ORDER BY t.id",
+            countQuery = "SELECT count(t) FROM Task t WHERE t.executor.id = :id")
+    Page<TaskVersionView> findVersionsByExecutorId(@Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Retrieves the tasks following the given task id, ordered by id (keyset pagination).
+     * No count query is issued.
+     *
+     * @param after The id of the last task of the previous slice.
+     * @param pageable The slice size (the page number must be 0).
+     * @return A list containing at most {@code pageable.getPageSize()} tasks.
+     */
+    @Query(TASK_VIEW + " WHERE t.id > :after ORDER BY t.id")
+    List<TaskView> findAllAfter(@Param("after") UUID after, Pageable pageable);
+
+    /**
+     * Retrieves the tasks with the given status following the given task id, ordered by id (keyset pagination).
+     *
+     * @param status The status of the tasks.
+     * @param after The id of the last task of the previous slice.
+     * @param pageable The slice size (the page number must be 0).
+     * @return A list containing at most {@code pageable.getPageSize()} tasks.
+     */
+    @Query(TASK_VIEW + " WHERE t.status = :status AND t.id > :after ORDER BY t.id")
+    List<TaskView> findByStatusAfter(@Param("status") TaskStatus status, @Param("after") UUID after, Pageable pageable);
+
+    /**
+     * Retrieves the tasks created by a specific user following the given task id, ordered by id (keyset pagination).
+     *
+     * @param id The UUID of the user who created the tasks.
+     * @param after The id of the last task of the previous slice.
+     * @param pageable The slice size (the page number must be 0).
+     * @return A list containing at most {@code pageable.getPageSize()} tasks.
+     */
+    @Query(TASK_VIEW + " WHERE t.creator.id = :id AND t.id > :after ORDER BY t.id")
+    List<TaskView> findAllByCreatorIdAfter(@Param("id") UUID id, @Param("after") UUID after, Pageable pageable);
+
+    /**
+     * Retrieves the tasks assigned to a specific executor following the given task id, ordered by id (keyset pagination).
+     *
+     * @param id The UUID of the executor.
+     * @param after The id of the last task of the previous slice.
+     * @param pageable The slice size (the page number must be 0).
+     * @return A list containing at most {@code pageable.getPageSize()} tasks.
+     */
+    @Query(TASK_VIEW + " WHERE t.executor.id = :id AND t.id > :after ORDER BY t.id")
+    List<TaskView> findAllByExecutorIdAfter(@Param("id") UUID id, @Param("after") UUID after, Pageable pageable);
+
+    /**
+     * Streams the tasks matching the optional filters as read-only {@link TaskView} projections, ordered by id.
+     * Rows are fetched from a server-side cursor {@value #EXPORT_FETCH_SIZE} at a time and projections are not
+     * managed by the persistence context, so memory use does not grow with the number of tasks.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @param status The status of the tasks, or null for any status.
+     * @param creatorId The UUID of the creator, or null for any creator.
+     * @param executorId The UUID of the executor, or null for any executor.
+     * @return A {@link Stream} of the matching tasks.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    @Query(TASK_VIEW + " WHERE (:status IS NULL OR t.status = :status)" +
+            " AND (:creatorId IS NULL OR c.id = :creatorId)" +
+            " AND (:executorId IS NULL OR e.id = :executorId)" +
+            " ORDER BY t.id")
+    Stream<TaskView> streamViews(@Param("status") TaskStatus status,
+                                 @Param("creatorId") UUID creatorId,
+                                 @Param("executorId") UUID executorId);
+
+    /**
+     * Retrieves the tasks with the given ids as read-only {@link TaskView} projections, in no particular order.
+     *
+     * @param ids The UUIDs of the tasks.
+     * @return A list containing the existing tasks among the given ids.
+     */
+    @Query(TASK_VIEW + " WHERE t.id IN :ids")
+    List<TaskView> findViewsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Full-text search over the task titles and descriptions, using the GIN-indexed {@code search_vector} column.
+     * The query uses the web search syntax ({@code "exact phrase"}, {@code or}, {@code -excluded}).
+     * Tasks are ranked by relevance (title matches weigh more than description matches), then ordered by id.
+     *
+     * @param query The search query.
+     * @param status The {@link TaskStatus#getCode() code} of the status of the tasks, or null for any status.
+     * @param executorId The UUID of the executor, or null for any executor.
+     * @param pageable The pagination information (unsorted).
+     * @return A {@link Page} of the ids of the matching tasks, in rank order.
+     */
+    @Query(value = "SELECT t.id FROM tasks t, websearch_to_tsquery('simple', :query) q " +
+            "WHERE t.search_vector @@ q" + SEARCH_FILTERS +
+            " ORDER BY ts_rank(t.search_vector, q) DESC, t.id",
+            countQuery = "SELECT count(*) FROM tasks t " +
+                    "WHERE t.search_vector @@ websearch_to_tsquery('simple', :query)" + SEARCH_FILTERS,
+            nativeQuery = true)
+    Page<UUID> searchIds(@Param("query") String query,
+                         @Param("status") Short status,
+                         @Param("executorId") UUID executorId,
+                         Pageable pageable);
 }
@@ -0,0 +1,58 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.projection.TaskView;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Class TaskRepositoryCustom
+ *
+ * Task statements built from a {@link Specification} that Spring Data cannot derive: a page or slice of
+ * {@link TaskView} projections, and set-based {@code DELETE ... WHERE} and {@code UPDATE ... WHERE}
+ * statements which don't load the affected tasks.
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Retrieves a page of the tasks matching the specification as read-only {@link TaskView} projections,
+     * with one query joining the creator and executor (plus the count query, unless the page is the last one).
+     *
+     * @param specification The criteria of the tasks.
+     * @param pageable The pagination and sort information.
+     * @return A {@link Page} containing the matching tasks.
+     */
+    Page<TaskView> findViews(Specification<Task> specification, Pageable pageable);
+
+    /**
+     * Retrieves a slice of the tasks matching the specification as read-only {@link TaskView} projections,
+     * with one query joining the creator and executor and no count: one more task than the page size is
+     * fetched to tell whether a next slice exists.
+     *
+     * @param specification The criteria of the tasks.
+     * @param pageable The pagination and sort information.
+     * @return A {@link Slice} containing the matching tasks.
+     */
+    Slice<TaskView> findViewSlice(Specification<Task> specification, Pageable pageable);
+
+    /**
+     * Deletes every task matching the specification.
+     *
+     * @param specification The criteria of the tasks to delete.
+     * @return The number of deleted tasks.
+     */
+    int deleteAllMatching(Specification<Task> specification);
+
+    /**
+     * Sets the status of every task matching the specification whose status is different,
+     * and increments their version.
+     *
+     * @param specification The criteria of the tasks to update.
+     * @param status The new status.
+     * @return The number of updated tasks.
+     */
+    int updateStatusOfAllMatching(Specification<Task> specification, TaskStatus status);
+}
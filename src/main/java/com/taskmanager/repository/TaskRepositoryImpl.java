@@ -0,0 +1,110 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.dto.projection.TaskView;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Class TaskRepositoryImpl
+ *
+ * Criteria API implementation of {@link TaskRepositoryCustom}.
+ * The projection query selects the same columns as {@link TaskRepository#TASK_VIEW}.
+ * Like the {@code @Modifying(flushAutomatically = true, clearAutomatically = true)} queries of
+ * {@link TaskRepository}, pending changes are flushed before the statement and the persistence
+ * context is cleared after the set-based statements, so no stale task stays managed.
+ */
+public class TaskRepositoryImpl implements TaskRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TaskView> findViews(Specification<Task> specification, Pageable pageable) {
+        List<TaskView> content = findViews(specification, pageable, pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    @Override
+    public Slice<TaskView> findViewSlice(Specification<Task> specification, Pageable pageable) {
+        List<TaskView> content = findViews(specification, pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public int deleteAllMatching(Specification<Task> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Task> delete = cb.createCriteriaDelete(Task.class);
+        Root<Task> task = delete.from(Task.class);
+        delete.where(specification.toPredicate(task, null, cb));
+        return execute(() -> entityManager.createQuery(delete).executeUpdate());
+    }
+
+    @Override
+    public int updateStatusOfAllMatching(Specification<Task> specification, TaskStatus status) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+        update.set(task.<TaskStatus>get("status"), status);
+        update.set(task.<Long>get("version"), cb.sum(task.<Long>get("version"), 1L));
+        update.where(specification.toPredicate(task, null, cb), cb.notEqual(task.get("status"), status));
+        return execute(() -> entityManager.createQuery(update).executeUpdate());
+    }
+
+    private List<TaskView> findViews(Specification<Task> specification, Pageable pageable, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskView> query = cb.createQuery(TaskView.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, User> creator = task.join("creator");
+        Join<Task, User> executor = task.join("executor");
+        query.select(cb.construct(TaskView.class,
+                task.get("id"), task.get("title"), task.get("description"), task.get("status"),
+                task.get("priority"), task.get("dueDate"),
+                creator.get("id"), creator.get("fullName"), creator.get("email"), creator.get("role"),
+                executor.get("id"), executor.get("fullName"), executor.get("email"), executor.get("role"),
+                task.get("version")));
+        Predicate predicate = specification.toPredicate(task, query, cb);
+        if (predicate != null) query.where(predicate);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), task, cb));
+        return entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(maxResults)
+                .getResultList();
+    }
+
+    private long count(Specification<Task> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> task = query.from(Task.class);
+        query.select(cb.count(task));
+        Predicate predicate = specification.toPredicate(task, query, cb);
+        if (predicate != null) query.where(predicate);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private int execute(IntSupplier statement) {
+        entityManager.flush();
+        int affected = statement.getAsInt();
+        entityManager.clear();
+        return affected;
+    }
+}
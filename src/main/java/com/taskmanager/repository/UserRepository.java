@@ -1,9 +1,12 @@
 package com.taskmanager.repository;
 
 
+import com.taskmanager.dto.projection.UserView;
 import com.taskmanager.entity.User;
 import io.swagger.v3.oas.annotations.Hidden;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,11 +22,34 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     /**
-     * Retrieves a user by their email address.
+     * Selects a {@link UserView} projection: every column of the user but the password.
+     */
+    String USER_VIEW = "SELECT new com.taskmanager.dto.projection.UserView(u.id, u.fullName, u.email, u.role) FROM User u";
+
+    /**
+     * Retrieves a user by their email address as a read-only {@link UserView} projection.
      *
      * @param login The email address (login) of the user.
      * @return An Optional containing the user with the specified email, or empty if no user is found.
      */
-    Optional<User> findByEmail(String login);
+    @Query(USER_VIEW + " WHERE u.email = :login")
+    Optional<UserView> findViewByEmail(@Param("login") String login);
+
+    /**
+     * Retrieves a user by their id as a read-only {@link UserView} projection.
+     *
+     * @param id The id of the user.
+     * @return An Optional containing the user with the specified id, or empty if no user is found.
+     */
+    @Query(USER_VIEW + " WHERE u.id = :id")
+    Optional<UserView> findViewById(@Param("id") UUID id);
 
-}
\ No newline at end of file
+    /**
+     * Retrieves the password of a user, for the login check only.
+     *
+     * @param id The id of the user.
+     * @return An Optional containing the password of the user, or empty if no user is found.
+     */
+    @Query("SELECT u.password FROM User u WHERE u.id = :id")
+    Optional<String> findPasswordById(@Param("id") UUID id);
+}
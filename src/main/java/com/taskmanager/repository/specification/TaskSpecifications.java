@@ -0,0 +1,59 @@
+package com.taskmanager.repository.specification;
+
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Class TaskSpecifications
+ *
+ * Reusable {@link Specification} criteria on {@link Task}.
+ * A criterion built from a null (or empty) value is null, which {@link Specification#and} ignores.
+ * The user criteria compare the foreign key columns, so they never join the users table.
+ */
+public class TaskSpecifications {
+
+    public static Specification<Task> idIn(Collection<UUID> ids) {
+        if (ids == null || ids.isEmpty()) return null;
+        return (task, query, cb) -> task.get("id").in(ids);
+    }
+
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        if (status == null) return null;
+        return (task, query, cb) -> cb.equal(task.get("status"), status);
+    }
+
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        if (priority == null) return null;
+        return (task, query, cb) -> cb.equal(task.get("priority"), priority);
+    }
+
+    public static Specification<Task> hasCreator(UUID creatorId) {
+        if (creatorId == null) return null;
+        return (task, query, cb) -> cb.equal(task.get("creator").get("id"), creatorId);
+    }
+
+    public static Specification<Task> hasExecutor(UUID executorId) {
+        if (executorId == null) return null;
+        return (task, query, cb) -> cb.equal(task.get("executor").get("id"), executorId);
+    }
+
+    public static Specification<Task> dueBefore(LocalDate date) {
+        if (date == null) return null;
+        return (task, query, cb) -> cb.lessThan(task.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrAfter(LocalDate date) {
+        if (date == null) return null;
+        return (task, query, cb) -> cb.greaterThanOrEqualTo(task.get("dueDate"), date);
+    }
+
+    public static Specification<Task> dueOnOrBefore(LocalDate date) {
+        if (date == null) return null;
+        return (task, query, cb) -> cb.lessThanOrEqualTo(task.get("dueDate"), date);
+    }
+}
@@ -3,21 +3,20 @@ package com.taskmanager.service;
 import com.taskmanager.config.jwt.JwtProvider;
 import com.taskmanager.dto.jwt.JwtRequestDto;
 import com.taskmanager.dto.jwt.JwtResponseDto;
+import com.taskmanager.dto.projection.UserView;
 import com.taskmanager.exception.AuthException;
 import com.taskmanager.exception.BadRequestException;
 import com.taskmanager.exception.OkException;
-import com.taskmanager.entity.User;
+import com.taskmanager.service.interfaces.RefreshTokenStore;
 import com.taskmanager.service.interfaces.UserService;
 import io.jsonwebtoken.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
-import java.util.*;
 
 /**
  * Class AuthServiceImpl
@@ -30,8 +29,7 @@ import java.util.*;
 public class AuthServiceImpl {
 
     private final UserService userService;
-    @Getter
-    private final Map<String, String> refreshTokensStorage = new HashMap<>();
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtProvider jwtProvider;
     private static final Logger log = LoggerFactory.getLogger(AuthServiceImpl.class);
 
@@ -45,24 +43,24 @@ public class AuthServiceImpl {
      * @throws OkException If the user is already logged in.
      */
     public JwtResponseDto login(@Valid @NotNull JwtRequestDto jwtRequestDto) {
-        final User user = userService.getUserByEmail(jwtRequestDto.getEmail())
+        final UserView user = userService.getUserByEmail(jwtRequestDto.getEmail())
                 .orElseThrow(() -> new BadRequestException("User not found"));
 
-        if(!refreshTokensStorage.containsKey(user.getEmail())){
-            if(user.getPassword().equals(jwtRequestDto.getPassword())){
+        if(!refreshTokenStore.contains(user.email())){
+            if(userService.isPasswordValid(user, jwtRequestDto.getPassword())){
                 final String accessToken = jwtProvider.generateAccessToken(user);
                 final String refreshToken = jwtProvider.generateRefreshToken(user);
 
-                refreshTokensStorage.put(user.getEmail(), refreshToken);
-                log.info("{} is logged in", user.getEmail());
-                return new JwtResponseDto(accessToken, refreshToken);
+                if (refreshTokenStore.putIfAbsent(user.email(), refreshToken)) {
+                    log.info("{} is logged in", user.email());
+                    return new JwtResponseDto(accessToken, refreshToken);
+                }
             }
             else {
                 throw new AuthException("Wrong password");
             }
-        } else {
-            throw new OkException("User is already logged in");
         }
+        throw new OkException("User is already logged in");
     }
 
     /**
@@ -76,15 +74,12 @@ public class AuthServiceImpl {
         if(jwtProvider.validateRefreshToken(refreshToken)){
             final Claims claims = jwtProvider.getRefreshClaims(refreshToken);
             final String login = claims.getSubject();
-            final String refreshTokenDB = refreshTokensStorage.get(login);
-
-            if(refreshTokenDB != null && refreshTokenDB.equals(refreshToken)){
-                final User user = userService.getUserByEmail(login)
-                        .orElseThrow(() -> new AuthException("User not found"));
+            final UserView user = userService.getUserByEmail(login)
+                    .orElseThrow(() -> new AuthException("User not found"));
 
+            if(refreshTokenStore.replace(login, refreshToken, null)){
                 String newAccessToken = jwtProvider.generateAccessToken(user);
-                refreshTokensStorage.put(user.getEmail(), null);
-                log.info("{} got new access token", user.getEmail());
+                log.info("{} got new access token", user.email());
                 return new JwtResponseDto(newAccessToken, null);
             }
             throw new AuthException("Wrong refresh token");
@@ -103,16 +98,13 @@ public class AuthServiceImpl {
         if(jwtProvider.validateRefreshToken(refreshToken)){
             final Claims claims = jwtProvider.getRefreshClaims(refreshToken);
             final String login = claims.getSubject();
-            final String refreshTokenDB = refreshTokensStorage.get(login);
-
-            if(refreshTokenDB != null && refreshTokenDB.equals(refreshToken)){
-                final User user = userService.getUserByEmail(login)
-                        .orElseThrow(() -> new AuthException("User not found"));
+            final UserView user = userService.getUserByEmail(login)
+                    .orElseThrow(() -> new AuthException("User not found"));
 
+            String newRefreshToken = jwtProvider.generateRefreshToken(user);
+            if(refreshTokenStore.replace(login, refreshToken, newRefreshToken)){
                 String newAccessToken = jwtProvider.generateAccessToken(user);
-                String newRefreshToken = jwtProvider.generateRefreshToken(user);
-                refreshTokensStorage.put(user.getEmail(), newRefreshToken);
-                log.info("{} got new access token and refresh token", user.getEmail());
+                log.info("{} got new access token and refresh token", user.email());
                 return new JwtResponseDto(newAccessToken, newRefreshToken);
             }
             throw new AuthException("Wrong refresh token");
@@ -131,14 +123,9 @@ public class AuthServiceImpl {
         if (jwtProvider.validateRefreshToken(refreshToken)) {
             final Claims claims = jwtProvider.getRefreshClaims(refreshToken);
             final String login = claims.getSubject();
-            final String refreshTokenDB = refreshTokensStorage.get(login);
-
-            if (refreshTokenDB != null && refreshTokenDB.equals(refreshToken)) {
-                final User user = userService.getUserByEmail(login)
-                        .orElseThrow(() -> new AuthException("User not found"));
 
-                refreshTokensStorage.remove(user.getEmail());
-                log.info("{} is logged out", user.getEmail());
+            if (refreshTokenStore.remove(login, refreshToken)) {
+                log.info("{} is logged out", login);
                 return;
             }
             throw new OkException("User is already logged out");
@@ -153,6 +140,6 @@ public class AuthServiceImpl {
      * @return {@code true} if the user is logged in, {@code false} otherwise.
      */
     public boolean isUserLoggedIn(String login){
-        return refreshTokensStorage.containsKey(login);
+        return refreshTokenStore.contains(login);
     }
 }
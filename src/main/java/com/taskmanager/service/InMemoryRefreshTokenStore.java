@@ -0,0 +1,146 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.jwt.JwtProvider;
+import com.taskmanager.service.interfaces.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Class InMemoryRefreshTokenStore
+ *
+ * {@link RefreshTokenStore} keeping the sessions in memory, striped by user: a login is hashed to one of
+ * {@link #STRIPES} stripes, each holding its own map guarded by its own monitor.
+ * Operations on users of different stripes never contend, and every operation holds the lock of one stripe
+ * only for a map lookup. Only usable with a single application instance.
+ */
+@Service
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    /**
+     * The number of stripes.
+     */
+    static final int STRIPES = 64;
+
+    private final Stripe[] stripes;
+    private final LongSupplier clock;
+
+    public InMemoryRefreshTokenStore() {
+        this(STRIPES, System::currentTimeMillis);
+    }
+
+    /**
+     * @param stripes The number of stripes (a power of two).
+     * @param clock The current time in epoch milliseconds.
+     */
+    InMemoryRefreshTokenStore(int stripes, LongSupplier clock) {
+        this.stripes = new Stripe[stripes];
+        this.clock = clock;
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * A user session: its current refresh token (null once consumed) and its expiration time.
+     */
+    private record Session(String token, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    /**
+     * The sessions of the users hashed to one stripe, guarded by the monitor of the stripe.
+     */
+    private static final class Stripe {
+        private final Map<String, Session> sessions = new HashMap<>();
+    }
+
+    private Stripe stripe(String login) {
+        int hash = login.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    @Override
+    public boolean contains(String login) {
+        Stripe stripe = stripe(login);
+        synchronized (stripe) {
+            Session session = stripe.sessions.get(login);
+            return session != null && !session.isExpired(clock.getAsLong());
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String login, String refreshToken) {
+        Stripe stripe = stripe(login);
+        synchronized (stripe) {
+            long now = clock.getAsLong();
+            Session current = stripe.sessions.get(login);
+            if (current != null && !current.isExpired(now)) return false;
+            stripe.sessions.put(login, new Session(refreshToken, now + JwtProvider.REFRESH_EXPIRATION_MS));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean replace(String login, String expectedToken, String newToken) {
+        Stripe stripe = stripe(login);
+        synchronized (stripe) {
+            long now = clock.getAsLong();
+            Session current = stripe.sessions.get(login);
+            if (current == null || current.isExpired(now) || !Objects.equals(current.token(), expectedToken)) return false;
+            stripe.sessions.put(login, newToken != null
+                    ? new Session(newToken, now + JwtProvider.REFRESH_EXPIRATION_MS)
+                    : new Session(null, current.expiresAt()));
+            return true;
+        }
+    }
+
+    @Override
+    public boolean remove(String login, String expectedToken) {
+        Stripe stripe = stripe(login);
+        synchronized (stripe) {
+            Session current = stripe.sessions.get(login);
+            if (current == null || current.isExpired(clock.getAsLong())
+                    || !Objects.equals(current.token(), expectedToken)) return false;
+            stripe.sessions.remove(login);
+            return true;
+        }
+    }
+
+    /**
+     * Removes the expired sessions, one stripe at a time.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${jwt.refresh.store.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.sessions.values().removeIf(session -> session.isExpired(now));
+            }
+        }
+    }
+
+    /**
+     * Returns the number of stored sessions, expired or not.
+     *
+     * @return the session count.
+     */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.sessions.size();
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.config.jwt.JwtProvider;
+import com.taskmanager.service.interfaces.RefreshTokenStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import java.time.Duration;
+
+/**
+ * Class JdbcRefreshTokenStore
+ *
+ * {@link RefreshTokenStore} keeping the sessions in the {@code refresh_tokens} table,
+ * so that several application instances share them. Every operation is one conditional statement
+ * and expiration is computed with the database clock.
+ * <p>
+ * {@link #contains(String)} runs on every authenticated request ({@code JwtFilter}). To spare a query per request,
+ * the logins found logged in are remembered for {@code jwt.refresh.store.session-cache-ms}: a logout is seen at once
+ * by the instance serving it, and by the other instances (like an expiration) within that delay; 0 disables the cache.
+ * Hit and miss counts are published as the {@code cache.*} metrics of the {@code jwt.sessions} cache.
+ */
+@Service
+@ConditionalOnProperty(name = "jwt.refresh.store", havingValue = "jdbc")
+public class JdbcRefreshTokenStore implements RefreshTokenStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache<String, Boolean> loggedIn;
+
+    public JdbcRefreshTokenStore(
+            JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.refresh.store.session-cache-ms:5000}") long sessionCacheMs,
+            @Value("${jwt.refresh.store.session-cache-size:10000}") long sessionCacheSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.loggedIn = Caffeine.newBuilder()
+                .maximumSize(sessionCacheMs > 0 ? sessionCacheSize : 0)
+                .expireAfterWrite(Duration.ofMillis(Math.max(sessionCacheMs, 0)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, loggedIn, "jwt.sessions");
+    }
+
+    @Override
+    public boolean contains(String login) {
+        if (loggedIn.getIfPresent(login) != null) {
+            return true;
+        }
+        boolean contains = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM refresh_tokens WHERE login = ? AND expires_at > now())",
+                Boolean.class, login));
+        if (contains) {
+            loggedIn.put(login, Boolean.TRUE);
+        }
+        return contains;
+    }
+
+    @Override
+    public boolean putIfAbsent(String login, String refreshToken) {
+        return jdbcTemplate.update(
+                "INSERT INTO refresh_tokens (login, token, expires_at) " +
+                        "VALUES (?, ?, now() + ? * INTERVAL '1 millisecond') " +
+                        "ON CONFLICT (login) DO UPDATE SET token = EXCLUDED.token, expires_at = EXCLUDED.expires_at " +
+                        "WHERE refresh_tokens.expires_at <= now()",
+                login, refreshToken, JwtProvider.REFRESH_EXPIRATION_MS) == 1;
+    }
+
+    @Override
+    public boolean replace(String login, String expectedToken, String newToken) {
+        if (newToken == null) {
+            return jdbcTemplate.update(
+                    "UPDATE refresh_tokens SET token = NULL " +
+                            "WHERE login = ? AND token = ? AND expires_at > now()",
+                    login, expectedToken) == 1;
+        }
+        return jdbcTemplate.update(
+                "UPDATE refresh_tokens SET token = ?, expires_at = now() + ? * INTERVAL '1 millisecond' " +
+                        "WHERE login = ? AND token = ? AND expires_at > now()",
+                newToken, JwtProvider.REFRESH_EXPIRATION_MS, login, expectedToken) == 1;
+    }
+
+    @Override
+    public boolean remove(String login, String expectedToken) {
+        boolean removed = jdbcTemplate.update(
+                "DELETE FROM refresh_tokens WHERE login = ? AND token = ? AND expires_at > now()",
+                login, expectedToken) == 1;
+        if (removed) {
+            loggedIn.invalidate(login);
+        }
+        return removed;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${jwt.refresh.store.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens WHERE expires_at <= now()");
+    }
+}
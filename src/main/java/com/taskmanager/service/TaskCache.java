@@ -0,0 +1,83 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.Versioned;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Class TaskCache
+ *
+ * Bounded read-through cache of single tasks (with their version) in front of {@code GET /tasks/{id}}.
+ * The task write paths evict the changed tasks: once immediately, and once more after their transaction commits,
+ * so that a read running concurrently with the write can't keep the old task cached.
+ * Entries also expire after {@code tasks.cache.ttl-seconds}, which bounds the staleness after a direct database change.
+ * Hit, miss and eviction counts are published as the {@code cache.*} metrics of the {@code tasks.by-id} cache.
+ */
+@Component
+public class TaskCache {
+
+    private final Cache<UUID, Versioned<TaskDto>> tasksById;
+
+    public TaskCache(
+            MeterRegistry meterRegistry,
+            @Value("${tasks.cache.max-size:10000}") long maxSize,
+            @Value("${tasks.cache.ttl-seconds:300}") long ttlSeconds
+    ) {
+        this.tasksById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tasksById, "tasks.by-id");
+    }
+
+    /**
+     * Returns the cached task, loading it if it is not cached yet. Missing tasks are not cached.
+     *
+     * @param id The id of the task.
+     * @param loader Loads the task, or returns null if it does not exist.
+     * @return The task with its version, or null if it does not exist.
+     */
+    public Versioned<TaskDto> get(UUID id, Function<UUID, Versioned<TaskDto>> loader) {
+        return tasksById.get(id, loader);
+    }
+
+    /**
+     * Evicts a changed task.
+     *
+     * @param id The id of the task.
+     */
+    public void evict(UUID id) {
+        tasksById.invalidate(id);
+        afterCommit(() -> tasksById.invalidate(id));
+    }
+
+    /**
+     * Evicts every task, after a bulk change of unknown tasks.
+     */
+    public void evictAll() {
+        tasksById.invalidateAll();
+        afterCommit(tasksById::invalidateAll);
+    }
+
+    private static void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,213 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskEventDto;
+import com.taskmanager.dto.TaskEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class TaskEventBus
+ *
+ * In-process bus fanning the committed task changes out to the Server-Sent Events subscribers of
+ * {@code GET /tasks/stream}. {@link TaskServiceImpl} publishes {@link TaskEventDto}s as application events;
+ * they reach the bus only once their transaction has committed.
+ * <p>
+ * Publishing never blocks: every subscriber has a bounded buffer of {@code tasks.events.buffer-size} events,
+ * drained by its own virtual thread. When the buffer of a slow subscriber is full, new events are dropped and the
+ * subscriber gets an {@code overflow} event with their number; a subscriber dropping a whole buffer of events before
+ * catching up is disconnected (clients reconnect and reload their tasks). Memory is therefore bounded by the number
+ * of subscribers times the buffer size, whatever the pace of the clients.
+ * Idle connections get a heartbeat comment every {@code tasks.events.heartbeat-ms}.
+ * The number of subscribers and the dropped events are published as the {@code tasks.events.*} metrics.
+ */
+@Component
+@Slf4j
+public class TaskEventBus {
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final Counter droppedEvents;
+    private final Counter slowSubscribers;
+
+    public TaskEventBus(
+            MeterRegistry meterRegistry,
+            @Value("${tasks.events.buffer-size:256}") int bufferSize,
+            @Value("${tasks.events.timeout-ms:1800000}") long timeoutMs
+    ) {
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.droppedEvents = meterRegistry.counter("tasks.events.dropped");
+        this.slowSubscribers = meterRegistry.counter("tasks.events.disconnected", "reason", "slow");
+        Gauge.builder("tasks.events.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * Subscribes to the task changes, optionally restricted to the tasks of one executor and/or creator.
+     * Bulk changes are sent to every subscriber.
+     *
+     * @param executorId The UUID of the executor of the tasks, or null for any executor.
+     * @param creatorId The UUID of the creator of the tasks, or null for any creator.
+     * @return The emitter of the subscription; it completes after {@code tasks.events.timeout-ms}.
+     */
+    public SseEmitter subscribe(UUID executorId, UUID creatorId) {
+        return subscribe(new SseEmitter(timeoutMs), executorId, creatorId);
+    }
+
+    /**
+     * Subscribes an emitter to the task changes.
+     */
+    SseEmitter subscribe(SseEmitter emitter, UUID executorId, UUID creatorId) {
+        Subscriber subscriber = new Subscriber(emitter, executorId, creatorId);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    /**
+     * Hands a committed task change to the matching subscribers, without waiting for any of them.
+     *
+     * @param event The task change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(TaskEventDto event) {
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.accepts(event)) subscriber.offer(event);
+        }
+    }
+
+    /**
+     * @return The number of events waiting in the buffers of the subscribers.
+     */
+    int bufferedEvents() {
+        int buffered = 0;
+        for (Subscriber subscriber : subscribers) buffered += subscriber.buffer.size();
+        return buffered;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.events.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(Subscriber::heartbeat);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    /**
+     * A subscription: its filters, its bounded buffer and the state of its sender.
+     * At most one sender runs per subscriber, so its events are sent in publication order.
+     */
+    private final class Subscriber implements Runnable {
+
+        private final SseEmitter emitter;
+        private final UUID executorId;
+        private final UUID creatorId;
+        private final BlockingQueue<TaskEventDto> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicInteger dropped = new AtomicInteger();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, UUID executorId, UUID creatorId) {
+            this.emitter = emitter;
+            this.executorId = executorId;
+            this.creatorId = creatorId;
+        }
+
+        boolean accepts(TaskEventDto event) {
+            if (event.type() == TaskEventType.BULK_CHANGED) return true;
+            return (executorId == null || executorId.equals(event.executorId()))
+                    && (creatorId == null || creatorId.equals(event.creatorId()));
+        }
+
+        void offer(TaskEventDto event) {
+            if (!buffer.offer(event)) {
+                droppedEvents.increment();
+                if (dropped.incrementAndGet() >= bufferSize) {
+                    // The client has not caught up for a whole buffer of events: let it reconnect and reload
+                    slowSubscribers.increment();
+                    close();
+                    senders.execute(emitter::complete);
+                    return;
+                }
+            }
+            schedule();
+        }
+
+        void heartbeat() {
+            heartbeatDue.set(true);
+            schedule();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void schedule() {
+            if (!closed && sending.compareAndSet(false, true)) {
+                senders.execute(this);
+            }
+        }
+
+        /**
+         * Sends the buffered events, then the number of dropped events and the heartbeat, if any.
+         */
+        @Override
+        public void run() {
+            try {
+                do {
+                    TaskEventDto event;
+                    while (!closed && (event = buffer.poll()) != null) {
+                        emitter.send(SseEmitter.event()
+                                .name(event.type().getValue())
+                                .data(event, MediaType.APPLICATION_JSON));
+                    }
+                    int missed = dropped.getAndSet(0);
+                    if (!closed && missed > 0) {
+                        emitter.send(SseEmitter.event().name("overflow").data(Map.of("dropped", missed)));
+                    }
+                    if (!closed && heartbeatDue.getAndSet(false)) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    sending.set(false);
+                } while (!closed && hasPending() && sending.compareAndSet(false, true));
+            } catch (IOException | IllegalStateException e) {
+                // The client is gone or the emitter has completed
+                log.debug("Task event subscriber disconnected: {}", e.getMessage());
+                sending.set(false);
+                close();
+            }
+        }
+
+        private boolean hasPending() {
+            return !buffer.isEmpty() || dropped.get() > 0 || heartbeatDue.get();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.dto.projection.TaskView;
+import com.taskmanager.mapper.TaskMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class TaskExportWriter
+ *
+ * Writes tasks one by one to an output stream in a {@link TaskFileFormat}.
+ * Nothing is kept once a row is written, so the memory used does not depend on the number of tasks.
+ */
+class TaskExportWriter {
+
+    private static final String CSV_HEADER = "id,title,description,status,priority,dueDate," +
+            "creatorId,creatorEmail,executorId,executorEmail";
+
+    private final TaskFileFormat format;
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    TaskExportWriter(TaskFileFormat format, ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == TaskFileFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    void write(TaskView task) throws IOException {
+        if (format == TaskFileFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(TaskMapper.toDto(task)));
+        } else {
+            writer.write(csv(task.id()));
+            writer.write(',');
+            writer.write(csv(task.title()));
+            writer.write(',');
+            writer.write(csv(task.description()));
+            writer.write(',');
+            writer.write(csv(task.status().getValue()));
+            writer.write(',');
+            writer.write(csv(task.priority().getValue()));
+            writer.write(',');
+            writer.write(csv(task.dueDate()));
+            writer.write(',');
+            writer.write(csv(task.creatorId()));
+            writer.write(',');
+            writer.write(csv(task.creatorEmail()));
+            writer.write(',');
+            writer.write(csv(task.executorId()));
+            writer.write(',');
+            writer.write(csv(task.executorEmail()));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Flushes the buffered rows; the output stream itself is left open.
+     */
+    void flush() throws IOException {
+        writer.flush();
+    }
+
+    /**
+     * Formats a CSV field (RFC 4180): values containing a separator, a quote or a line break are quoted.
+     */
+    private static String csv(Object value) {
+        if (value == null) return "";
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,249 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.dto.TaskImportErrorDto;
+import com.taskmanager.dto.TaskNoIdDto;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.id.TimeOrderedUuidGenerator;
+import com.taskmanager.exception.BadRequestException;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+
+/**
+ * Class TaskImportReader
+ *
+ * First stage of the task import: reads the rows of an NDJSON or CSV stream and validates them
+ * against the {@link TaskNoIdDto} constraints. Valid rows get their id and are handed over in chunks
+ * to a bounded queue, so that reading overlaps with loading and at most a few chunks are held in memory.
+ * An empty chunk marks the end of the rows.
+ */
+class TaskImportReader implements Callable<TaskImportReader.Summary> {
+
+    static final List<Row> END = List.of();
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final List<String> VALIDATED_FIELDS = List.of("title", "description", "status", "priority", "dueDate");
+    private static final List<String> CSV_REQUIRED_COLUMNS = List.of("title", "status", "priority");
+
+    /**
+     * A valid row, ready to be loaded.
+     */
+    record Row(long line, UUID id, TaskNoIdDto task, String executorEmail) {
+    }
+
+    /**
+     * The outcome of the read: the number of rows read and the rejected ones.
+     */
+    record Summary(long read, long rejected, List<TaskImportErrorDto> errors) {
+    }
+
+    private final TaskFileFormat format;
+    private final InputStream in;
+    private final BlockingQueue<List<Row>> queue;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxReportedErrors;
+
+    private final List<TaskImportErrorDto> errors = new ArrayList<>();
+    private List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+    private long read;
+    private long rejected;
+
+    TaskImportReader(TaskFileFormat format, InputStream in, BlockingQueue<List<Row>> queue,
+                     ObjectMapper objectMapper, Validator validator, int maxReportedErrors) {
+        this.format = format;
+        this.in = in;
+        this.queue = queue;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    @Override
+    public Summary call() throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            if (format == TaskFileFormat.NDJSON) {
+                readNdjson(reader);
+            } else {
+                readCsv(reader);
+            }
+            if (!chunk.isEmpty()) queue.put(chunk);
+        } catch (InterruptedException e) {
+            // The loading stage has failed and no longer takes chunks
+            Thread.currentThread().interrupt();
+            throw e;
+        } finally {
+            if (!Thread.currentThread().isInterrupted()) queue.put(END);
+        }
+        return new Summary(read, rejected, errors);
+    }
+
+    private void readNdjson(BufferedReader reader) throws IOException, InterruptedException {
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) continue;
+            read++;
+            JsonNode node;
+            TaskNoIdDto task;
+            try {
+                node = objectMapper.readTree(text);
+                if (!node.isObject()) {
+                    reject(line, Map.of("row", "Row must be a JSON object"));
+                    continue;
+                }
+                task = objectMapper.treeToValue(node, TaskNoIdDto.class);
+            } catch (ValueInstantiationException e) {
+                // An unknown status or priority value
+                String field = e.getPath().isEmpty() ? "row" : e.getPath().get(0).getFieldName();
+                reject(line, Map.of(field, e.getCause() != null ? e.getCause().getMessage() : e.getOriginalMessage()));
+                continue;
+            } catch (JsonProcessingException e) {
+                reject(line, Map.of("row", "Non valid JSON: " + e.getOriginalMessage()));
+                continue;
+            }
+            accept(line, task, node.path("executorEmail").textValue());
+        }
+    }
+
+    private void readCsv(BufferedReader reader) throws IOException, InterruptedException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null || !header.containsAll(CSV_REQUIRED_COLUMNS)) {
+            throw new BadRequestException("CSV header must contain the columns " + CSV_REQUIRED_COLUMNS);
+        }
+        int title = header.indexOf("title");
+        int description = header.indexOf("description");
+        int status = header.indexOf("status");
+        int priority = header.indexOf("priority");
+        int dueDate = header.indexOf("dueDate");
+        int executorEmail = header.indexOf("executorEmail");
+
+        long line = 1;
+        List<String> fields;
+        while ((fields = readCsvRecord(reader)) != null) {
+            line++;
+            if (fields.size() == 1 && fields.get(0) == null) continue;
+            read++;
+            if (fields.size() != header.size()) {
+                reject(line, Map.of("row", "Row must have " + header.size() + " columns"));
+                continue;
+            }
+            TaskNoIdDto task = new TaskNoIdDto();
+            task.setTitle(fields.get(title));
+            task.setDescription(field(fields, description));
+            try {
+                task.setStatus(fields.get(status) == null ? null : TaskStatus.fromValue(fields.get(status)));
+            } catch (IllegalArgumentException e) {
+                reject(line, Map.of("status", e.getMessage()));
+                continue;
+            }
+            try {
+                task.setPriority(fields.get(priority) == null ? null : TaskPriority.fromValue(fields.get(priority)));
+            } catch (IllegalArgumentException e) {
+                reject(line, Map.of("priority", e.getMessage()));
+                continue;
+            }
+            String date = field(fields, dueDate);
+            if (date != null) {
+                try {
+                    task.setDueDate(LocalDate.parse(date));
+                } catch (DateTimeParseException e) {
+                    reject(line, Map.of("dueDate", "Due date must be a date (yyyy-MM-dd)"));
+                    continue;
+                }
+            }
+            accept(line, task, field(fields, executorEmail));
+        }
+    }
+
+    private void accept(long line, TaskNoIdDto task, String executorEmail) throws InterruptedException {
+        Map<String, String> violations = new HashMap<>();
+        for (String field : VALIDATED_FIELDS) {
+            validator.validateProperty(task, field)
+                    .forEach(violation -> violations.put(field, violation.getMessage()));
+        }
+        if (!violations.isEmpty()) {
+            reject(line, violations);
+            return;
+        }
+        String email = executorEmail == null || executorEmail.isBlank() ? null : executorEmail;
+        chunk.add(new Row(line, TimeOrderedUuidGenerator.next(), task, email));
+        if (chunk.size() == CHUNK_SIZE) {
+            queue.put(chunk);
+            chunk = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    private void reject(long line, Map<String, String> rowErrors) {
+        rejected++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new TaskImportErrorDto(line, rowErrors));
+        }
+    }
+
+    private static String field(List<String> fields, int index) {
+        return index < 0 ? null : fields.get(index);
+    }
+
+    /**
+     * Reads one CSV record (RFC 4180). Quoted fields may contain separators, quotes and line breaks.
+     * An empty unquoted field is read as null, an empty quoted field as an empty string.
+     *
+     * @return The fields of the record, or null at the end of the stream.
+     */
+    private static List<String> readCsvRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) return null;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new BadRequestException("CSV ends inside a quoted field");
+                }
+                if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        quoted = false;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+                wasQuoted = true;
+            } else if (c == ',' || c == '\n' || c == -1) {
+                fields.add(field.isEmpty() && !wasQuoted ? null : field.toString());
+                if (c != ',') return fields;
+                field.setLength(0);
+                wasQuoted = false;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.config.jwt.JwtAuthentication;
+import com.taskmanager.dto.TaskEventDto;
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.dto.TaskImportErrorDto;
+import com.taskmanager.dto.TaskImportResultDto;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.ServerException;
+import com.taskmanager.service.TaskImportReader.Row;
+import com.taskmanager.service.TaskImportReader.Summary;
+import com.taskmanager.service.interfaces.TaskImportService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class TaskImportServiceImpl
+ *
+ * Service implementation of the bulk task import, built as a pipeline:
+ * <ol>
+ *     <li>a {@link TaskImportReader} thread parses and validates the rows;</li>
+ *     <li>the request thread loads the valid rows into a temporary staging table, with PostgreSQL {@code COPY}
+ *     (or JDBC batches on other databases, e.g. H2);</li>
+ *     <li>a single {@code INSERT ... SELECT} merges the staging table into {@code tasks}, resolving the executors.</li>
+ * </ol>
+ * Progress is logged and published as the {@code tasks.import.rows} metric while the import runs.
+ * If a stage fails the other one is stopped: a loading failure closes the input stream (unblocking a reader
+ * waiting for the client) and interrupts the reader, a reading failure ends the rows early, and the transaction
+ * is rolled back.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final int QUEUE_CAPACITY = 8;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final long PROGRESS_INTERVAL = 100_000;
+    private static final long READER_POLL_SECONDS = 1;
+
+    private static final String CREATE_STAGING_TABLE = "CREATE LOCAL TEMPORARY TABLE task_import (" +
+            "line BIGINT NOT NULL, id UUID NOT NULL, title VARCHAR NOT NULL, description VARCHAR, " +
+            "status SMALLINT NOT NULL, priority SMALLINT NOT NULL, due_date DATE, executor_email VARCHAR" +
+            ") ON COMMIT DROP";
+    private static final String COPY_STAGING_TABLE = "COPY task_import " +
+            "(line, id, title, description, status, priority, due_date, executor_email) FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_STAGING_TABLE = "INSERT INTO task_import " +
+            "(line, id, title, description, status, priority, due_date, executor_email) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UNKNOWN_EXECUTORS = " FROM task_import s " +
+            "WHERE s.executor_email IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM users u WHERE u.email = s.executor_email)";
+    private static final String MERGE_STAGING_TABLE = "INSERT INTO tasks " +
+            "(id, title, description, status, priority, due_date, id_creator, id_executor) " +
+            "SELECT s.id, s.title, s.description, s.status, s.priority, s.due_date, ?, COALESCE(u.id, ?) " +
+            "FROM task_import s LEFT JOIN users u ON u.email = s.executor_email " +
+            "WHERE s.executor_email IS NULL OR u.id IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Imports the tasks of an NDJSON or CSV stream in a single transaction.
+     * Rows violating the {@link com.taskmanager.dto.TaskNoIdDto} constraints or naming an unknown executor
+     * are rejected and reported; the other rows are imported.
+     *
+     * @param format The format of the stream.
+     * @param in The stream to read; it is closed once read.
+     * @return A {@link TaskImportResultDto} reporting the imported and rejected rows, the duration and the throughput.
+     * @throws BadRequestException If the stream can't be parsed (e.g. no CSV header)
+     * or read to its end (e.g. the client aborted the upload).
+     * @throws ServerException If the import fails or is interrupted.
+     */
+    @Transactional
+    @Override
+    public TaskImportResultDto importTasks(TaskFileFormat format, InputStream in) {
+        JwtAuthentication authentication = (JwtAuthentication) SecurityContextHolder.getContext().getAuthentication();
+        UUID userId = authentication.getUserId();
+        long start = System.nanoTime();
+
+        BlockingQueue<List<Row>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        FutureTask<Summary> reader = new FutureTask<>(
+                new TaskImportReader(format, in, queue, objectMapper, validator, MAX_REPORTED_ERRORS));
+        Thread.ofPlatform().name("task-import-reader").start(reader);
+
+        try {
+            jdbcTemplate.execute(CREATE_STAGING_TABLE);
+            jdbcTemplate.execute((ConnectionCallback<Long>) connection -> stage(connection, queue, reader, start));
+        } catch (RuntimeException e) {
+            stopReader(reader, in);
+            throw e;
+        }
+        Summary summary = awaitReader(reader);
+
+        List<TaskImportErrorDto> errors = new ArrayList<>(summary.errors());
+        Long unknownExecutors = jdbcTemplate.queryForObject("SELECT count(*)" + UNKNOWN_EXECUTORS, Long.class);
+        jdbcTemplate.queryForList("SELECT s.line" + UNKNOWN_EXECUTORS + " ORDER BY s.line LIMIT ?",
+                        Long.class, MAX_REPORTED_ERRORS)
+                .forEach(line -> errors.add(
+                        new TaskImportErrorDto(line, Map.of("executorEmail", "Provided executor doesn't exist"))));
+        errors.sort(Comparator.comparingLong(TaskImportErrorDto::line));
+        List<TaskImportErrorDto> reported = List.copyOf(errors.subList(0, Math.min(errors.size(), MAX_REPORTED_ERRORS)));
+
+        long imported = jdbcTemplate.update(MERGE_STAGING_TABLE, userId, userId);
+        if (imported > 0) eventPublisher.publishEvent(TaskEventDto.bulkChanged());
+        long rejected = summary.rejected() + (unknownExecutors != null ? unknownExecutors : 0);
+        long durationMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+        long rowsPerSecond = summary.read() * 1000 / durationMs;
+
+        meterRegistry.counter("tasks.import.rows", "outcome", "imported").increment(imported);
+        meterRegistry.counter("tasks.import.rows", "outcome", "rejected").increment(rejected);
+        log.info("Task import finished: {} imported, {} rejected in {} ms ({} rows/s)",
+                imported, rejected, durationMs, rowsPerSecond);
+        return new TaskImportResultDto(imported, rejected, reported, durationMs, rowsPerSecond);
+    }
+
+    /**
+     * Loads the chunks of valid rows into the staging table until the reader signals the end of the rows,
+     * or terminates without signalling it.
+     *
+     * @return The number of staged rows.
+     */
+    private long stage(Connection connection, BlockingQueue<List<Row>> queue, FutureTask<Summary> reader, long start)
+            throws SQLException {
+        StagingLoader loader = connection.isWrapperFor(PGConnection.class)
+                ? new CopyLoader(connection.unwrap(PGConnection.class).getCopyAPI())
+                : new BatchLoader(connection);
+        long staged = 0;
+        long nextProgress = PROGRESS_INTERVAL;
+        try {
+            List<Row> chunk;
+            while (!(chunk = nextChunk(queue, reader)).isEmpty()) {
+                loader.load(chunk);
+                staged += chunk.size();
+                meterRegistry.counter("tasks.import.rows", "outcome", "staged").increment(chunk.size());
+                if (staged >= nextProgress) {
+                    long elapsedMs = Math.max((System.nanoTime() - start) / 1_000_000, 1);
+                    log.info("Task import: {} rows staged ({} rows/s)", staged, staged * 1000 / elapsedMs);
+                    nextProgress += PROGRESS_INTERVAL;
+                }
+            }
+            loader.finish();
+            return staged;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Task import was interrupted");
+        } finally {
+            loader.close();
+        }
+    }
+
+    /**
+     * Takes the next chunk of rows, checking periodically that the reader is still running.
+     *
+     * @return The next chunk, or {@link TaskImportReader#END} if the reader has terminated.
+     */
+    private static List<Row> nextChunk(BlockingQueue<List<Row>> queue, FutureTask<Summary> reader)
+            throws InterruptedException {
+        while (true) {
+            List<Row> chunk = queue.poll(READER_POLL_SECONDS, TimeUnit.SECONDS);
+            if (chunk != null) return chunk;
+            if (reader.isDone()) {
+                chunk = queue.poll();
+                return chunk != null ? chunk : TaskImportReader.END;
+            }
+        }
+    }
+
+    /**
+     * Stops the reader after a loading failure: closing the stream ends a read blocked on the client,
+     * the interruption ends a wait for room in the queue.
+     */
+    private static void stopReader(FutureTask<Summary> reader, InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            log.debug("Task import input stream failed to close", e);
+        }
+        reader.cancel(true);
+    }
+
+    private static Summary awaitReader(FutureTask<Summary> reader) {
+        try {
+            return reader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("Task import was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof IOException) {
+                log.warn("Task import failed to read the request body: {}", e.getCause().toString());
+                throw new BadRequestException("Task import failed to read the request body");
+            }
+            log.error("Task import failed to read the rows", e.getCause());
+            throw new ServerException("Task import failed to read the rows");
+        }
+    }
+
+    /**
+     * Loads rows into the staging table.
+     */
+    private interface StagingLoader {
+
+        void load(List<Row> rows) throws SQLException;
+
+        void finish() throws SQLException;
+
+        void close() throws SQLException;
+    }
+
+    /**
+     * Streams the rows to the staging table as CSV over a single PostgreSQL {@code COPY FROM STDIN}.
+     */
+    private static class CopyLoader implements StagingLoader {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(64 * 1024);
+
+        CopyLoader(CopyManager copyManager) throws SQLException {
+            this.copyIn = copyManager.copyIn(COPY_STAGING_TABLE);
+        }
+
+        @Override
+        public void load(List<Row> rows) throws SQLException {
+            buffer.setLength(0);
+            for (Row row : rows) {
+                buffer.append(row.line()).append(',')
+                        .append(row.id()).append(',');
+                appendCsv(row.task().getTitle()).append(',');
+                appendCsv(row.task().getDescription()).append(',');
+                buffer.append(row.task().getStatus().getCode()).append(',')
+                        .append(row.task().getPriority().getCode()).append(',');
+                if (row.task().getDueDate() != null) buffer.append(row.task().getDueDate());
+                buffer.append(',');
+                appendCsv(row.executorEmail()).append('\n');
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void finish() throws SQLException {
+            copyIn.endCopy();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (copyIn.isActive()) copyIn.cancelCopy();
+        }
+
+        /**
+         * Appends a text field: null stays an empty unquoted field (NULL for COPY), any other value is quoted.
+         */
+        private StringBuilder appendCsv(String value) {
+            if (value == null) return buffer;
+            return buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+        }
+    }
+
+    /**
+     * Inserts the rows into the staging table with one JDBC batch per chunk.
+     */
+    private static class BatchLoader implements StagingLoader {
+
+        private final PreparedStatement statement;
+
+        BatchLoader(Connection connection) throws SQLException {
+            this.statement = connection.prepareStatement(INSERT_STAGING_TABLE);
+        }
+
+        @Override
+        public void load(List<Row> rows) throws SQLException {
+            for (Row row : rows) {
+                statement.setLong(1, row.line());
+                statement.setObject(2, row.id());
+                statement.setString(3, row.task().getTitle());
+                statement.setString(4, row.task().getDescription());
+                statement.setShort(5, row.task().getStatus().getCode());
+                statement.setShort(6, row.task().getPriority().getCode());
+                if (row.task().getDueDate() != null) {
+                    statement.setObject(7, row.task().getDueDate());
+                } else {
+                    statement.setNull(7, Types.DATE);
+                }
+                statement.setString(8, row.executorEmail());
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
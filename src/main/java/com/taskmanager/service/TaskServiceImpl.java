@@ -1,28 +1,72 @@
 package com.taskmanager.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.config.Role;
+import com.taskmanager.config.jwt.JwtAuthentication;
+import com.taskmanager.dto.BulkResultDto;
+import com.taskmanager.dto.CursorPageDto;
 import com.taskmanager.dto.IdDto;
+import com.taskmanager.dto.TaskBatchItemResultDto;
+import com.taskmanager.dto.TaskBatchResultDto;
+import com.taskmanager.dto.TaskBulkFilterDto;
 import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskEventDto;
+import com.taskmanager.dto.TaskEventType;
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.dto.TaskFilterDto;
 import com.taskmanager.dto.TaskNoIdDto;
 import com.taskmanager.dto.UserDto;
+import com.taskmanager.dto.Versioned;
+import com.taskmanager.dto.projection.TaskView;
+import com.taskmanager.dto.projection.UserView;
 import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
 import com.taskmanager.entity.User;
 import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.PreconditionFailedException;
+import com.taskmanager.exception.ValidException;
+import com.taskmanager.mapper.CursorMapper;
+import com.taskmanager.mapper.ETagMapper;
+import com.taskmanager.mapper.TaskMapper;
 import com.taskmanager.mapper.UserMapper;
 import com.taskmanager.repository.TaskRepository;
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.repository.specification.TaskSpecifications;
 import com.taskmanager.service.interfaces.TaskService;
 import com.taskmanager.service.interfaces.UserService;
-import jakarta.transaction.Transactional;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Class TaskServiceImpl
@@ -34,73 +78,457 @@ import java.util.UUID;
 @AllArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    /**
+     * The maximum number of tasks accepted by {@link #addTasks(List)}.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+    /**
+     * The maximum number of tasks of a cursor-paginated slice.
+     */
+    public static final int MAX_SLICE_SIZE = 100;
+    private static final List<String> SORTABLE_PROPERTIES = List.of("id", "dueDate");
+
     private final TaskRepository taskRepository;
-    private final ModelMapper modelMapper;
+    private final UserRepository userRepository;
+    private final Validator validator;
     private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final TaskCache taskCache;
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * Adds a new task.
      *
      * @param taskNoIdDto The DTO containing the task data (without ID).
      * @return A {@link TaskDto} representing the saved task.
      */
+    @Transactional
     @Override
     public TaskDto addTask(TaskNoIdDto taskNoIdDto) {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        User creator =  userService.getUserByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        UserDto creatorDto = UserMapper.toDto(creator);
-        taskNoIdDto.setCreator(creatorDto);
-        taskNoIdDto.setExecutor(creatorDto);
-        Task task = taskRepository.save(modelMapper.map(taskNoIdDto, Task.class));
-        return modelMapper.map(task, TaskDto.class);
+        JwtAuthentication authentication = (JwtAuthentication) SecurityContextHolder.getContext().getAuthentication();
+        User creator = userRepository.getReferenceById(authentication.getUserId());
+        Task task = TaskMapper.toEntity(taskNoIdDto);
+        task.setCreator(creator);
+        task.setExecutor(creator);
+        taskRepository.save(task);
+        UserDto creatorDto = UserMapper.toDto(authentication);
+        TaskDto taskDto = TaskMapper.toDto(task, creatorDto, creatorDto);
+        eventPublisher.publishEvent(TaskEventDto.of(TaskEventType.CREATED, taskDto));
+        return taskDto;
+    }
+
+    /**
+     * Adds several tasks in one transaction.
+     * Each task is validated on its own; the valid ones are inserted with JDBC batching
+     * (the ids are generated by the application, so no statement is needed per row to get them).
+     *
+     * @param tasks The DTOs containing the task data (without IDs).
+     * @return A {@link TaskBatchResultDto} with the id or the validation errors of every task.
+     * @throws BadRequestException If the batch is empty or larger than {@link #MAX_BATCH_SIZE}.
+     */
+    @Transactional
+    @Override
+    public TaskBatchResultDto addTasks(List<TaskNoIdDto> tasks) {
+        if (tasks.isEmpty() || tasks.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException("Acceptable batch size is 1-" + MAX_BATCH_SIZE);
+        }
+        JwtAuthentication authentication = (JwtAuthentication) SecurityContextHolder.getContext().getAuthentication();
+        User creator = userRepository.getReferenceById(authentication.getUserId());
+
+        TaskBatchItemResultDto[] results = new TaskBatchItemResultDto[tasks.size()];
+        List<Task> validTasks = new ArrayList<>(tasks.size());
+        List<Integer> validIndexes = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            TaskNoIdDto taskNoIdDto = tasks.get(i);
+            if (taskNoIdDto == null) {
+                results[i] = new TaskBatchItemResultDto(i, null, Map.of("task", "Task must not be null"));
+                continue;
+            }
+            Set<ConstraintViolation<TaskNoIdDto>> violations = validator.validate(taskNoIdDto);
+            if (!violations.isEmpty()) {
+                Map<String, String> errors = new HashMap<>();
+                violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+                results[i] = new TaskBatchItemResultDto(i, null, errors);
+                continue;
+            }
+            Task task = TaskMapper.toEntity(taskNoIdDto);
+            task.setCreator(creator);
+            task.setExecutor(creator);
+            validTasks.add(task);
+            validIndexes.add(i);
+        }
+
+        taskRepository.saveAll(validTasks);
+        UserDto creatorDto = UserMapper.toDto(authentication);
+        for (int i = 0; i < validTasks.size(); i++) {
+            int index = validIndexes.get(i);
+            results[index] = new TaskBatchItemResultDto(index, validTasks.get(i).getId(), null);
+            eventPublisher.publishEvent(TaskEventDto.of(TaskEventType.CREATED,
+                    TaskMapper.toDto(validTasks.get(i), creatorDto, creatorDto)));
+        }
+        return new TaskBatchResultDto(validTasks.size(), tasks.size() - validTasks.size(), List.of(results));
     }
 
     /**
      * Updates an existing task.
+     * The managed task is changed in place, so Hibernate checks its version while writing it.
      *
      * @param taskDto The DTO containing the updated task data (with ID).
+     * @param expectedVersion The version the task must still have (from {@code If-Match}), or null for any version.
+     * @return The updated {@link TaskDto} with its new version.
+     * @throws BadRequestException If the task, the creator or the executor with the provided ID does not exist.
+     * @throws PreconditionFailedException If the task version is not the expected one.
+     */
+    @Transactional
+    @Override
+    public Versioned<TaskDto> updateTask(TaskDto taskDto, Long expectedVersion) {
+        Task task = taskRepository.findById(taskDto.getId())
+                .orElseThrow(() -> new BadRequestException("Provided task doesn't exist"));
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("The task has been changed since version " + expectedVersion);
+        }
+        UserView creator = userService.getUserById(taskDto.getCreator().getId())
+                .orElseThrow(() -> new BadRequestException("Provided creator doesn't exist"));
+        UserView executor = userService.getUserById(taskDto.getExecutor().getId())
+                .orElseThrow(() -> new BadRequestException("Provided executor doesn't exist"));
+        task.setTitle(taskDto.getTitle());
+        task.setDescription(taskDto.getDescription());
+        task.setStatus(taskDto.getStatus());
+        task.setPriority(taskDto.getPriority());
+        task.setDueDate(taskDto.getDueDate());
+        task.setCreator(userRepository.getReferenceById(creator.id()));
+        task.setExecutor(userRepository.getReferenceById(executor.id()));
+        taskRepository.flush();
+        taskCache.evict(task.getId());
+        TaskDto updated = TaskMapper.toDto(task, UserMapper.toDto(creator), UserMapper.toDto(executor));
+        eventPublisher.publishEvent(TaskEventDto.of(TaskEventType.UPDATED, updated));
+        return new Versioned<>(updated, task.getVersion());
+    }
+
+    /**
+     * Partially updates a task with a JSON Merge Patch (RFC 7386) document.
+     * Only the fields present in the patch are validated (with the {@link TaskNoIdDto} constraints) and set;
+     * as {@link Task} uses dynamic updates, the UPDATE statement only writes the changed columns.
+     * The patchable fields are title, description, status, priority, dueDate and executor ({@code {"id": ...}}).
+     *
+     * @param taskId The ID of the task to update.
+     * @param patch The merge patch document.
      * @return A {@link TaskDto} representing the updated task.
-     * @throws BadRequestException If the task with the provided ID does not exist.
+     * @throws BadRequestException If the patch is malformed, or the task or the new executor does not exist.
+     * @throws ValidException If a patched value violates the task constraints.
      */
     @Transactional
     @Override
-    public TaskDto updateTask(TaskDto taskDto) {
-        Task taskOld = taskRepository.findById(taskDto.getId()).orElseThrow(
-                () -> new BadRequestException("Provided task doesn't exist"));
-//        List<Comment> comments = taskOld.getComments();
-        Task task = modelMapper.map(taskDto, Task.class);
-//        task.setComments(comments);
-        taskRepository.save(task);
-        return modelMapper.map(task, TaskDto.class);
+    public TaskDto patchTask(UUID taskId, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new BadRequestException("Merge patch must be a JSON object");
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        Set<ConstraintViolation<TaskNoIdDto>> violations = new HashSet<>();
+        patch.fields().forEachRemaining(field -> {
+            Object value = readPatchValue(field.getKey(), field.getValue());
+            if (!"executor".equals(field.getKey())) {
+                violations.addAll(validator.validateValue(TaskNoIdDto.class, field.getKey(), value));
+            }
+            changes.put(field.getKey(), value);
+        });
+        if (!violations.isEmpty()) {
+            throw new ValidException(new ConstraintViolationException(violations));
+        }
+
+        Task task = taskRepository.findWithUsersById(taskId)
+                .orElseThrow(() -> new BadRequestException("Provided task doesn't exist"));
+        UserDto executor = UserMapper.toDto(task.getExecutor());
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            Object value = change.getValue();
+            switch (change.getKey()) {
+                case "title" -> task.setTitle((String) value);
+                case "description" -> task.setDescription((String) value);
+                case "status" -> task.setStatus((TaskStatus) value);
+                case "priority" -> task.setPriority((TaskPriority) value);
+                case "dueDate" -> task.setDueDate((LocalDate) value);
+                case "executor" -> {
+                    // The cached view both checks the executor and maps it, without loading the new user entity
+                    UserView newExecutor = userService.getUserById((UUID) value)
+                            .orElseThrow(() -> new BadRequestException("Provided executor doesn't exist"));
+                    task.setExecutor(userRepository.getReferenceById(newExecutor.id()));
+                    executor = UserMapper.toDto(newExecutor);
+                }
+                default -> throw new BadRequestException("Field " + change.getKey() + " can't be patched");
+            }
+        }
+        taskCache.evict(taskId);
+        TaskDto taskDto = TaskMapper.toDto(task, UserMapper.toDto(task.getCreator()), executor);
+        eventPublisher.publishEvent(TaskEventDto.of(TaskEventType.UPDATED, taskDto));
+        return taskDto;
+    }
+
+    /**
+     * Reads the value of one merge patch field.
+     *
+     * @param field The name of the field.
+     * @param value The JSON value of the field (a JSON null removes optional values).
+     * @return The value converted to the type of the task property.
+     * @throws BadRequestException If the field can't be patched or its value has a wrong type.
+     */
+    private Object readPatchValue(String field, JsonNode value) {
+        switch (field) {
+            case "title", "description" -> {
+                if (value.isNull()) return null;
+                if (!value.isTextual()) throw new BadRequestException("Field " + field + " must be a string");
+                return value.asText();
+            }
+            case "status", "priority" -> {
+                if (value.isNull()) return null;
+                if (!value.isTextual()) throw new BadRequestException("Field " + field + " must be a string");
+                try {
+                    return "status".equals(field) ? TaskStatus.fromValue(value.asText()) : TaskPriority.fromValue(value.asText());
+                } catch (IllegalArgumentException e) {
+                    throw new BadRequestException(e.getMessage());
+                }
+            }
+            case "dueDate" -> {
+                if (value.isNull()) return null;
+                try {
+                    return LocalDate.parse(value.asText());
+                } catch (DateTimeParseException e) {
+                    throw new BadRequestException("Field dueDate must be a date (yyyy-MM-dd)");
+                }
+            }
+            case "executor" -> {
+                JsonNode id = value.get("id");
+                if (id == null || !id.isTextual()) {
+                    throw new BadRequestException("Executor must be an object with a user id");
+                }
+                try {
+                    return UUID.fromString(id.asText());
+                } catch (IllegalArgumentException e) {
+                    throw new BadRequestException("Executor id must be a UUID");
+                }
+            }
+            default -> throw new BadRequestException("Field " + field + " can't be patched");
+        }
     }
 
     /**
      * Updates the status of a task.
+     * The "must be different" rule is checked by the UPDATE statement itself, so concurrent requests
+     * cannot both pass it, and the task is never loaded before being changed.
      *
      * @param taskId The ID of the task to update.
      * @param newStatus The new status to set for the task.
      * @return A {@link TaskDto} representing the updated task.
      * @throws BadRequestException If the task does not exist or if the new status is the same as the current status.
      */
+    @Transactional
     @Override
-    public TaskDto updateTaskStatus(UUID taskId, String newStatus) {
-        Task taskDB = taskRepository.findById(taskId)
-                .orElseThrow(() -> new BadRequestException("Provided task doesn't exist"));
-        if (taskDB.getStatus().equals(newStatus)) {
+    public TaskDto updateTaskStatus(UUID taskId, TaskStatus newStatus) {
+        if (taskRepository.updateStatusIfDifferent(taskId, newStatus) == 0) {
+            if (!taskRepository.existsById(taskId)) {
+                throw new BadRequestException("Provided task doesn't exist");
+            }
             throw new BadRequestException("The new status must be different from the current status");
         }
-        taskDB.setStatus(newStatus);
-        return modelMapper.map(taskRepository.save(taskDB), TaskDto.class);
+        taskCache.evict(taskId);
+        TaskDto taskDto = taskRepository.findViewById(taskId)
+                .map(TaskMapper::toDto)
+                .orElseThrow(() -> new BadRequestException("Provided task doesn't exist"));
+        eventPublisher.publishEvent(TaskEventDto.of(TaskEventType.STATUS_CHANGED, taskDto));
+        return taskDto;
     }
 
     /**
-     * Deletes a task.
+     * Deletes a task. Nothing happens if the task does not exist.
      *
      * @param idDto The DTO containing the ID of the task to delete.
      */
+    @Transactional
     @Override
     public void deleteTask(IdDto idDto) {
-        taskRepository.deleteById(idDto.id());
+        taskRepository.findById(idDto.id()).ifPresent(task -> {
+            taskRepository.delete(task);
+            // The user ids are read from the uninitialized references, without loading the users
+            eventPublisher.publishEvent(TaskEventDto.deleted(task.getId(),
+                    task.getCreator().getId(), task.getExecutor().getId()));
+        });
+        taskCache.evict(idDto.id());
+    }
+
+    /**
+     * Deletes every task matching the filter with a single {@code DELETE ... WHERE} statement.
+     * Permissions are part of the statement: an admin deletes every matching task,
+     * any other user only the matching tasks they created.
+     *
+     * @param filter The criteria of the tasks to delete.
+     * @return A {@link BulkResultDto} with the number of deleted tasks.
+     * @throws BadRequestException If the filter has no criterion.
+     */
+    @Transactional
+    @Override
+    public BulkResultDto deleteTasks(TaskBulkFilterDto filter) {
+        JwtAuthentication authentication = (JwtAuthentication) SecurityContextHolder.getContext().getAuthentication();
+        Specification<Task> specification = toSpecification(filter);
+        if (authentication.getRole() != Role.ADMIN) {
+            specification = specification.and(TaskSpecifications.hasCreator(authentication.getUserId()));
+        }
+        int deleted = taskRepository.deleteAllMatching(specification);
+        if (deleted > 0) {
+            taskCache.evictAll();
+            eventPublisher.publishEvent(TaskEventDto.bulkChanged());
+        }
+        return new BulkResultDto(deleted);
+    }
+
+    /**
+     * Changes the status of every task matching the filter with a single {@code UPDATE ... WHERE} statement.
+     * Tasks already in the new status are not written. Permissions are part of the statement:
+     * an admin updates every matching task, any other user only the matching tasks they execute.
+     *
+     * @param filter The criteria of the tasks to update.
+     * @param status The new status.
+     * @return A {@link BulkResultDto} with the number of updated tasks.
+     * @throws BadRequestException If the filter has no criterion.
+     */
+    @Transactional
+    @Override
+    public BulkResultDto updateTasksStatus(TaskBulkFilterDto filter, TaskStatus status) {
+        JwtAuthentication authentication = (JwtAuthentication) SecurityContextHolder.getContext().getAuthentication();
+        Specification<Task> specification = toSpecification(filter);
+        if (authentication.getRole() != Role.ADMIN) {
+            specification = specification.and(TaskSpecifications.hasExecutor(authentication.getUserId()));
+        }
+        int updated = taskRepository.updateStatusOfAllMatching(specification, status);
+        if (updated > 0) {
+            taskCache.evictAll();
+            eventPublisher.publishEvent(TaskEventDto.bulkChanged());
+        }
+        return new BulkResultDto(updated);
+    }
+
+    /**
+     * Writes the tasks matching the optional filters to an output stream, row by row.
+     * Tasks are read through a cursor-backed {@link Stream} of projections and written as soon as they are read,
+     * so heap usage stays flat whatever the number of exported tasks.
+     *
+     * @param format The export format.
+     * @param status The status of the tasks, or null for any status.
+     * @param creatorId The ID of the creator, or null for any creator.
+     * @param executorId The ID of the executor, or null for any executor.
+     * @param out The stream to write to; it is flushed but not closed.
+     * @throws IOException If writing to the stream fails (e.g. the client disconnected).
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void exportTasks(TaskFileFormat format, TaskStatus status, UUID creatorId, UUID executorId,
+                            OutputStream out) throws IOException {
+        TaskExportWriter writer = new TaskExportWriter(format, objectMapper, out);
+        try (Stream<TaskView> tasks = taskRepository.streamViews(status, creatorId, executorId)) {
+            Iterator<TaskView> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+            }
+        }
+        writer.flush();
+    }
+
+    private static Specification<Task> toSpecification(TaskBulkFilterDto filter) {
+        if (filter.isEmpty()) {
+            throw new BadRequestException("Bulk operations need at least one criterion");
+        }
+        return Specification.where(TaskSpecifications.idIn(filter.ids()))
+                .and(TaskSpecifications.hasStatus(filter.status()))
+                .and(TaskSpecifications.hasExecutor(filter.executorId()))
+                .and(TaskSpecifications.dueBefore(filter.dueBefore()));
+    }
+
+    /**
+     * Retrieves a task through the {@link TaskCache}: only a cache miss reads the database.
+     *
+     * @param taskId The ID of the task.
+     * @return The {@link TaskDto} of the task with its version.
+     * @throws BadRequestException If the task does not exist.
+     */
+    @Override
+    public Versioned<TaskDto> findById(UUID taskId) {
+        Versioned<TaskDto> task = taskCache.get(taskId, id -> taskRepository.findViewById(id)
+                .map(view -> new Versioned<>(TaskMapper.toDto(view), view.version()))
+                .orElse(null));
+        if (task == null) {
+            throw new BadRequestException("Provided task doesn't exist");
+        }
+        return task;
+    }
+
+    /**
+     * Searches tasks by the words of their title and description, most relevant first.
+     * The ranked page of ids comes from the full-text index, then the tasks of the page are read by id.
+     *
+     * @param query The search query (web search syntax).
+     * @param status Optional status of the tasks.
+     * @param executorId Optional ID of the executor of the tasks.
+     * @param pageable The pagination information (e.g., page number, size).
+     * @return A {@link Page} of {@link TaskDto} in rank order.
+     * @throws BadRequestException If the query is blank.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Page<TaskDto> search(String query, TaskStatus status, UUID executorId, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new BadRequestException("Search query must not be blank");
+        }
+        Page<UUID> ids = taskRepository.searchIds(query,
+                status == null ? null : status.getCode(), executorId, pageable);
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
+        }
+        Map<UUID, TaskView> views = new HashMap<>();
+        taskRepository.findViewsByIdIn(ids.getContent()).forEach(view -> views.put(view.id(), view));
+        List<TaskDto> tasks = ids.getContent().stream()
+                .map(views::get)
+                .filter(Objects::nonNull)
+                .map(TaskMapper::toDto)
+                .toList();
+        return new PageImpl<>(tasks, pageable, ids.getTotalElements());
+    }
+
+    /**
+     * Retrieves the tasks matching every provided criterion with a single query built from {@link TaskSpecifications}.
+     * Only the sorts backed by an index are accepted (id, and dueDate with id as tie-breaker),
+     * so that every page is read in index order instead of sorting all the matching tasks.
+     * The matching tasks are only counted on request: on large tables the count costs far more than the page.
+     *
+     * @param filter The optional criteria of the tasks.
+     * @param pageable The pagination information (e.g., page number, size, sort).
+     * @param withTotal Whether to count the matching tasks.
+     * @return A {@link Page} of {@link TaskDto} representing the matching tasks if {@code withTotal},
+     *         otherwise a {@link Slice} only telling whether a next page exists.
+     * @throws BadRequestException If the sort uses another property.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public Slice<TaskDto> findAll(TaskFilterDto filter, Pageable pageable, boolean withTotal) {
+        Sort sort = Sort.unsorted();
+        for (Sort.Order order : pageable.getSort()) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new BadRequestException("Sorts that are acceptable: " + String.join("|", SORTABLE_PROPERTIES));
+            }
+            sort = sort.and(Sort.by(order));
+        }
+        if (sort.getOrderFor("id") == null) {
+            Sort.Direction direction = sort.isSorted() ? sort.iterator().next().getDirection() : Sort.Direction.ASC;
+            sort = sort.and(Sort.by(direction, "id"));
+        }
+        Specification<Task> specification = Specification.where(TaskSpecifications.hasStatus(filter.status()))
+                .and(TaskSpecifications.hasPriority(filter.priority()))
+                .and(TaskSpecifications.hasCreator(filter.creatorId()))
+                .and(TaskSpecifications.hasExecutor(filter.executorId()))
+                .and(TaskSpecifications.dueOnOrAfter(filter.dueFrom()))
+                .and(TaskSpecifications.dueOnOrBefore(filter.dueTo()));
+        Pageable sorted = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        if (withTotal) {
+            return taskRepository.findViews(specification, sorted).map(TaskMapper::toDto);
+        }
+        return taskRepository.findViewSlice(specification, sorted).map(TaskMapper::toDto);
     }
 
     /**
@@ -109,9 +537,10 @@ public class TaskServiceImpl implements TaskService {
      * @param pageable The pagination information (e.g., page number, size).
      * @return A {@link Page} of {@link TaskDto} representing all tasks.
      */
+    @Transactional(readOnly = true)
     @Override
     public Page<TaskDto> findAll(Pageable pageable) {
-        return taskRepository.findAll(pageable).map(task -> modelMapper.map(task, TaskDto.class));
+        return taskRepository.findAllViews(pageable).map(TaskMapper::toDto);
     }
 
     /**
@@ -121,9 +550,10 @@ public class TaskServiceImpl implements TaskService {
      * @param status The status of the tasks.
      * @return A {@link Page} of {@link TaskDto} representing all tasks.
      */
-    public Page<TaskDto> findByStatus(String status, Pageable pageable) {
-        return taskRepository.findByStatus(status, pageable)
-                .map(task -> modelMapper.map(task, TaskDto.class));
+    @Transactional(readOnly = true)
+    public Page<TaskDto> findByStatus(TaskStatus status, Pageable pageable) {
+        return taskRepository.findViewsByStatus(status, pageable)
+                .map(TaskMapper::toDto);
     }
     /**
      * Retrieves tasks created by a specific user, with pagination support.
@@ -132,9 +562,10 @@ public class TaskServiceImpl implements TaskService {
      * @param pageable The pagination information (e.g., page number, size).
      * @return A {@link Page} of {@link TaskDto} representing the tasks created by the specified user.
      */
+    @Transactional(readOnly = true)
     public Page<TaskDto> findAllByCreator(UUID idCreator, Pageable pageable) {
-        return taskRepository.findAllByCreatorId(idCreator, pageable)
-                .map(task -> modelMapper.map(task, TaskDto.class));
+        return taskRepository.findViewsByCreatorId(idCreator, pageable)
+                .map(TaskMapper::toDto);
     }
 
     /**
@@ -144,9 +575,147 @@ public class TaskServiceImpl implements TaskService {
      * @param pageable The pagination information (e.g., page number, size).
      * @return A {@link Page} of {@link TaskDto} representing the tasks assigned to the specified executor.
      */
+    @Transactional(readOnly = true)
     public Page<TaskDto> findAllByExecutor(UUID idExecutor, Pageable pageable) {
-        return taskRepository.findAllByExecutorId(idExecutor, pageable)
-                .map(task -> modelMapper.map(task, TaskDto.class));
+        return taskRepository.findViewsByExecutorId(idExecutor, pageable)
+                .map(TaskMapper::toDto);
+    }
+
+    /**
+     * Computes the ETag of a {@link #findAll} page.
+     *
+     * @param pageable The pagination information (e.g., page number, size).
+     * @return The ETag of the page.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public String findAllETag(Pageable pageable) {
+        return ETagMapper.toETag(taskRepository.findAllVersions(pageable));
+    }
+
+    /**
+     * Computes the ETag of a {@link #findByStatus} page.
+     *
+     * @param status The status of the tasks.
+     * @param pageable The pagination information (e.g., page number, size).
+     * @return The ETag of the page.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public String findByStatusETag(TaskStatus status, Pageable pageable) {
+        return ETagMapper.toETag(taskRepository.findVersionsByStatus(status, pageable));
+    }
+
+    /**
+     * Computes the ETag of a {@link #findAllByCreator} page.
+     *
+     * @param idCreator The ID of the creator of the tasks.
+     * @param pageable The pagination information (e.g., page number, size).
+     * @return The ETag of the page.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public String findAllByCreatorETag(UUID idCreator, Pageable pageable) {
+        return ETagMapper.toETag(taskRepository.findVersionsByCreatorId(idCreator, pageable));
+    }
+
+    /**
+     * Computes the ETag of a {@link #findAllByExecutor} page.
+     *
+     * @param idExecutor The ID of the executor of the tasks.
+     * @param pageable The pagination information (e.g., page number, size).
+     * @return The ETag of the page.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public String findAllByExecutorETag(UUID idExecutor, Pageable pageable) {
+        return ETagMapper.toETag(taskRepository.findVersionsByExecutorId(idExecutor, pageable));
+    }
+
+    /**
+     * Retrieves a slice of all tasks with keyset (cursor) pagination support.
+     *
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto} of {@link TaskDto} and the cursor of the next slice.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<TaskDto> scrollAll(String cursor, int size) {
+        return toCursorPage(taskRepository.findAllAfter(CursorMapper.toId(cursor), seekRequest(size)), size);
+    }
+
+    /**
+     * Retrieves a slice of tasks by status with keyset (cursor) pagination support.
+     *
+     * @param status The status of the tasks.
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto} of {@link TaskDto} and the cursor of the next slice.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<TaskDto> scrollByStatus(TaskStatus status, String cursor, int size) {
+        return toCursorPage(taskRepository.findByStatusAfter(status, CursorMapper.toId(cursor), seekRequest(size)), size);
+    }
+
+    /**
+     * Retrieves a slice of tasks created by a specific user with keyset (cursor) pagination support.
+     *
+     * @param idCreator The ID of the creator of the tasks.
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto} of {@link TaskDto} and the cursor of the next slice.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<TaskDto> scrollAllByCreator(UUID idCreator, String cursor, int size) {
+        return toCursorPage(taskRepository.findAllByCreatorIdAfter(idCreator, CursorMapper.toId(cursor), seekRequest(size)), size);
+    }
+
+    /**
+     * Retrieves a slice of tasks assigned to a specific executor with keyset (cursor) pagination support.
+     *
+     * @param idExecutor The ID of the executor of the tasks.
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto} of {@link TaskDto} and the cursor of the next slice.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageDto<TaskDto> scrollAllByExecutor(UUID idExecutor, String cursor, int size) {
+        return toCursorPage(taskRepository.findAllByExecutorIdAfter(idExecutor, CursorMapper.toId(cursor), seekRequest(size)), size);
+    }
+
+    /**
+     * Builds the limit of a seek query. One extra row is fetched to find out whether a next slice exists.
+     *
+     * @param size The number of tasks per slice.
+     * @return A {@link Pageable} limiting the seek query to {@code size + 1} rows.
+     * @throws BadRequestException If the size is not between 1 and {@link #MAX_SLICE_SIZE}.
+     */
+    private Pageable seekRequest(int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new BadRequestException("Acceptable page size is 1-" + MAX_SLICE_SIZE);
+        }
+        return PageRequest.ofSize(size + 1);
+    }
+
+    /**
+     * Cuts the extra row fetched by {@link #seekRequest(int)} and builds the cursor of the next slice.
+     *
+     * @param tasks The tasks returned by the seek query.
+     * @param size The number of tasks per slice.
+     * @return A {@link CursorPageDto} of {@link TaskDto}.
+     */
+    private CursorPageDto<TaskDto> toCursorPage(List<TaskView> tasks, int size) {
+        boolean hasNext = tasks.size() > size;
+        List<TaskView> slice = hasNext ? tasks.subList(0, size) : tasks;
+        String nextCursor = hasNext ? CursorMapper.toCursor(slice.get(size - 1).id()) : null;
+        return new CursorPageDto<>(
+                slice.stream().map(TaskMapper::toDto).toList(),
+                nextCursor,
+                hasNext);
     }
 
 }
\ No newline at end of file
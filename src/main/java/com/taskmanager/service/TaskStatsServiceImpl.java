@@ -0,0 +1,154 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskStatsDto;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.service.interfaces.TaskStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Class TaskStatsServiceImpl
+ *
+ * Service implementation of the task counts, read from the {@code task_counters} table instead of counting tasks.
+ * The table holds one counter per executor, status and priority; database triggers update it in the transaction
+ * of every task write. The counts of one executor cost at most nine counter rows whatever the number of tasks;
+ * the counts of all tasks add up the counters of every executor, so they grow with the number of executors
+ * (a single global counter would serialize every task write on one row).
+ * <p>
+ * A scheduled job recounts the tasks every {@code tasks.stats.reconcile-interval-ms} and corrects any drift
+ * (e.g. after writes made with the triggers disabled). It runs on one instance at a time and recounts one
+ * executor per short transaction, under an advisory lock that only the writes of that executor wait for.
+ */
+@Service
+@Slf4j
+public class TaskStatsServiceImpl implements TaskStatsService {
+
+    private static final String SELECT_COUNTERS = "SELECT status, priority, sum(task_count) AS task_count " +
+            "FROM task_counters WHERE (CAST(? AS uuid) IS NULL OR id_executor = ?) GROUP BY status, priority";
+    /**
+     * Held by the instance reconciling the counters until the end of its run.
+     */
+    private static final String TRY_RECONCILE_LOCK =
+            "SELECT pg_try_advisory_xact_lock(hashtext('task_counters_reconcile'))";
+    /**
+     * The lock of one executor, taken in shared mode by the task writes (see V9__lock_task_counters_per_executor).
+     */
+    private static final String LOCK_EXECUTOR =
+            "SELECT pg_advisory_xact_lock(hashtext('task_counters'), hashtext(CAST(? AS text)))";
+    /**
+     * How long the recount of an executor waits for its pending writes before it is left to the next run.
+     */
+    private static final String LOCK_TIMEOUT = "SET LOCAL lock_timeout = '1s'";
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+    private static final String SELECT_EXECUTORS = "SELECT id FROM users UNION SELECT id_executor FROM task_counters";
+    private static final String RECOUNT = "INSERT INTO task_counters (id_executor, status, priority, task_count) " +
+            "SELECT id_executor, status, priority, count(*) FROM tasks WHERE id_executor = ? " +
+            "GROUP BY id_executor, status, priority " +
+            "ON CONFLICT (id_executor, status, priority) DO UPDATE SET task_count = EXCLUDED.task_count " +
+            "WHERE task_counters.task_count <> EXCLUDED.task_count";
+    private static final String RESET_EMPTY = "UPDATE task_counters c SET task_count = 0 " +
+            "WHERE c.id_executor = ? AND c.task_count <> 0 AND NOT EXISTS (SELECT 1 FROM tasks t " +
+            "WHERE t.id_executor = c.id_executor AND t.status = c.status AND t.priority = c.priority)";
+
+    private final JdbcTemplate jdbcTemplate;
+    /**
+     * Holds the reconcile lock for a whole run.
+     */
+    private final TransactionTemplate runTemplate;
+    /**
+     * Recounts one executor, in a transaction of its own.
+     */
+    private final TransactionTemplate executorTemplate;
+
+    public TaskStatsServiceImpl(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.runTemplate = new TransactionTemplate(transactionManager);
+        this.executorTemplate = new TransactionTemplate(transactionManager);
+        this.executorTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Retrieves the task counts by status and priority from the counters: at most nine rows for one executor,
+     * nine rows per executor for all tasks.
+     *
+     * @param executorId The UUID of the executor of the counted tasks, or null to count all tasks.
+     * @return A {@link TaskStatsDto} holding the counts; an unknown executor has only zero counts.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public TaskStatsDto getStats(UUID executorId) {
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        for (TaskStatus status : TaskStatus.values()) byStatus.put(status.getValue(), 0L);
+        Map<String, Long> byPriority = new LinkedHashMap<>();
+        for (TaskPriority priority : TaskPriority.values()) byPriority.put(priority.getValue(), 0L);
+
+        long[] total = new long[1];
+        jdbcTemplate.query(SELECT_COUNTERS, rs -> {
+            long count = rs.getLong("task_count");
+            byStatus.merge(TaskStatus.fromCode(rs.getShort("status")).getValue(), count, Long::sum);
+            byPriority.merge(TaskPriority.fromCode(rs.getShort("priority")).getValue(), count, Long::sum);
+            total[0] += count;
+        }, executorId, executorId);
+        return new TaskStatsDto(executorId, total[0], byStatus, byPriority);
+    }
+
+    /**
+     * Recomputes the counters from the tasks and corrects the ones that drifted, one executor at a time.
+     * Skipped if another instance is reconciling. The recount of an executor first takes the exclusive lock
+     * of the executor: it waits for the uncommitted writes of its tasks, so that every write committed before
+     * is counted and every later one applies its change on top of the recount. An executor whose writes are
+     * still pending after {@link #LOCK_TIMEOUT} is left to the next run.
+     *
+     * @return The number of corrected counters.
+     */
+    @Override
+    @Scheduled(initialDelayString = "${tasks.stats.reconcile-interval-ms:3600000}",
+            fixedDelayString = "${tasks.stats.reconcile-interval-ms:3600000}")
+    public int reconcile() {
+        Integer corrected = runTemplate.execute(run -> {
+            if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_RECONCILE_LOCK, Boolean.class))) {
+                log.debug("Task counters already being reconciled by another instance");
+                return 0;
+            }
+            int count = 0;
+            for (UUID executorId : jdbcTemplate.queryForList(SELECT_EXECUTORS, UUID.class)) {
+                count += reconcile(executorId);
+            }
+            return count;
+        });
+        if (corrected != null && corrected > 0) {
+            log.warn("Task counters reconciled: {} counters corrected", corrected);
+        }
+        return corrected == null ? 0 : corrected;
+    }
+
+    private int reconcile(UUID executorId) {
+        try {
+            Integer corrected = executorTemplate.execute(status -> {
+                jdbcTemplate.execute(LOCK_TIMEOUT);
+                jdbcTemplate.queryForObject(LOCK_EXECUTOR, Object.class, executorId);
+                return jdbcTemplate.update(RECOUNT, executorId) + jdbcTemplate.update(RESET_EMPTY, executorId);
+            });
+            return corrected == null ? 0 : corrected;
+        } catch (DataAccessException e) {
+            if (!(e.getMostSpecificCause() instanceof SQLException sqlException)
+                    || !LOCK_NOT_AVAILABLE.equals(sqlException.getSQLState())) {
+                throw e;
+            }
+            log.warn("Task counters of executor {} not reconciled: its writes are still pending", executorId);
+            return 0;
+        }
+    }
+}
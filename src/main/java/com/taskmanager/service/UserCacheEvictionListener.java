@@ -0,0 +1,47 @@
+package com.taskmanager.service;
+
+import com.taskmanager.entity.User;
+import com.taskmanager.service.interfaces.UserService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Class UserCacheEvictionListener
+ *
+ * JPA entity listener of {@link User} evicting a changed or removed user from the {@link UserService} caches.
+ * The user is evicted when the change is flushed and once more after the transaction completes, so that a lookup
+ * running in between can't keep the old row cached. Changes made outside JPA (plain SQL) are only seen
+ * once the cached entries expire.
+ */
+@Component
+public class UserCacheEvictionListener {
+
+    private final ObjectProvider<UserService> userService;
+
+    /**
+     * @param userService The user service, resolved lazily: the listener is created with the entity manager factory,
+     *                    which the user service depends on.
+     */
+    public UserCacheEvictionListener(ObjectProvider<UserService> userService) {
+        this.userService = userService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void userChanged(User user) {
+        UserService service = userService.getObject();
+        service.evictUser(user);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    service.evictUser(user);
+                }
+            });
+        }
+    }
+}
@@ -1,31 +1,111 @@
 package com.taskmanager.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.dto.projection.UserView;
 import com.taskmanager.entity.User;
 import com.taskmanager.repository.UserRepository;
 import com.taskmanager.service.interfaces.UserService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import java.time.Duration;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Class UserServiceImpl
  *
  * Service implementation for managing users, including retrieving user details by email.
+ * Users are kept as {@link UserView} projections (never with their password) in two bounded caches
+ * (by email and by id) in front of {@link UserRepository}; entries expire after {@code users.cache.ttl-seconds}
+ * and are evicted by {@link UserCacheEvictionListener} whenever a user entity is updated or removed.
+ * Hit, miss and eviction counts are published as the {@code cache.*} metrics of the {@code users.by-email}
+ * and {@code users.by-id} caches.
  */
 @Service
-@RequiredArgsConstructor
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final Cache<String, UserView> usersByEmail;
+    private final Cache<UUID, UserView> usersById;
+
+    public UserServiceImpl(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${users.cache.max-size:1000}") long maxSize,
+            @Value("${users.cache.ttl-seconds:600}") long ttlSeconds
+    ) {
+        this.userRepository = userRepository;
+        this.usersByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByEmail, "users.by-email");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by-id");
+    }
 
     /**
      * Retrieves a user by their email.
      *
      * @param login The email of the user to retrieve.
-     * @return An {@link Optional} containing the {@link User} if found, or an empty {@link Optional} if not found.
+     * @return An {@link Optional} containing the {@link UserView} if found, or an empty {@link Optional} if not found.
+     */
+    @Override
+    public Optional<UserView> getUserByEmail(String login) {
+        return Optional.ofNullable(usersByEmail.get(login, email -> {
+            UserView user = userRepository.findViewByEmail(email).orElse(null);
+            if (user != null) usersById.put(user.id(), user);
+            return user;
+        }));
+    }
+
+    /**
+     * Retrieves a user by their id.
+     *
+     * @param id The id of the user to retrieve.
+     * @return An {@link Optional} containing the {@link UserView} if found, or an empty {@link Optional} if not found.
+     */
+    @Override
+    public Optional<UserView> getUserById(UUID id) {
+        return Optional.ofNullable(usersById.get(id, key -> {
+            UserView user = userRepository.findViewById(key).orElse(null);
+            if (user != null) usersByEmail.put(user.email(), user);
+            return user;
+        }));
+    }
+
+    /**
+     * Checks the password of a user. The password is read from the database on every call and never cached.
+     *
+     * @param user The user.
+     * @param password The provided password.
+     * @return {@code true} if the password matches, {@code false} otherwise.
+     */
+    @Override
+    public boolean isPasswordValid(UserView user, String password) {
+        return userRepository.findPasswordById(user.id())
+                .map(stored -> stored.equals(password))
+                .orElse(false);
+    }
+
+    /**
+     * Removes a user from the caches, so that the next lookup reads the current row.
+     *
+     * @param user The changed user (its id and its email before the change are evicted).
      */
     @Override
-    public Optional<User> getUserByEmail(String login) {
-        return userRepository.findByEmail(login);
+    public void evictUser(User user) {
+        UserView cached = usersById.getIfPresent(user.getId());
+        if (cached != null) usersByEmail.invalidate(cached.email());
+        usersById.invalidate(user.getId());
+        usersByEmail.invalidate(user.getEmail());
     }
 }
@@ -0,0 +1,55 @@
+package com.taskmanager.service.interfaces;
+
+/**
+ * Class RefreshTokenStore
+ *
+ * Storage of the users sessions: one refresh token per logged-in user (login).
+ * A session may exist without a usable refresh token once that token has been consumed.
+ * Sessions expire {@code JwtProvider.REFRESH_EXPIRATION_MS} after their refresh token was issued.
+ * Every operation is atomic, so concurrent logins, refreshes and logouts of the same user cannot interleave.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Checks if the user has a non-expired session.
+     *
+     * @param login The email (login) of the user.
+     * @return {@code true} if the user is logged in, {@code false} otherwise.
+     */
+    boolean contains(String login);
+
+    /**
+     * Opens a session with the given refresh token unless the user already has a non-expired one.
+     *
+     * @param login The email (login) of the user.
+     * @param refreshToken The refresh token of the new session.
+     * @return {@code true} if the session was opened, {@code false} if the user is already logged in.
+     */
+    boolean putIfAbsent(String login, String refreshToken);
+
+    /**
+     * Replaces the refresh token of the session if it is still the expected one.
+     * A new token restarts the session expiration; a null token consumes the current one
+     * and keeps the session until its current expiration.
+     *
+     * @param login The email (login) of the user.
+     * @param expectedToken The refresh token presented by the client.
+     * @param newToken The refresh token replacing it, or null to only consume it.
+     * @return {@code true} if the token was replaced, {@code false} if the session does not hold the expected token.
+     */
+    boolean replace(String login, String expectedToken, String newToken);
+
+    /**
+     * Closes the session if it still holds the expected refresh token.
+     *
+     * @param login The email (login) of the user.
+     * @param expectedToken The refresh token presented by the client.
+     * @return {@code true} if the session was closed, {@code false} otherwise.
+     */
+    boolean remove(String login, String expectedToken);
+
+    /**
+     * Removes every expired session.
+     */
+    void evictExpired();
+}
@@ -0,0 +1,24 @@
+package com.taskmanager.service.interfaces;
+
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.dto.TaskImportResultDto;
+import java.io.InputStream;
+
+/**
+ * Class TaskImportService
+ *
+ * Service interface for loading large numbers of tasks from a file.
+ */
+public interface TaskImportService {
+
+    /**
+     * Imports the tasks of an NDJSON or CSV stream in a single transaction.
+     * Every row holds the title, description, status, priority, dueDate and optional executorEmail of a task;
+     * the authenticated user is the creator, and the executor when no executorEmail is given.
+     *
+     * @param format The format of the stream.
+     * @param in The stream to read; it is closed once read.
+     * @return A {@link TaskImportResultDto} reporting the imported and rejected rows.
+     */
+    TaskImportResultDto importTasks(TaskFileFormat format, InputStream in);
+}
@@ -1,11 +1,24 @@
 package com.taskmanager.service.interfaces;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskmanager.dto.BulkResultDto;
+import com.taskmanager.dto.CursorPageDto;
 import com.taskmanager.dto.IdDto;
+import com.taskmanager.dto.TaskBatchResultDto;
+import com.taskmanager.dto.TaskBulkFilterDto;
 import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.dto.TaskFilterDto;
 import com.taskmanager.dto.TaskNoIdDto;
+import com.taskmanager.dto.Versioned;
+import com.taskmanager.entity.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -24,13 +37,31 @@ public interface TaskService {
      */
     TaskDto addTask(TaskNoIdDto taskNoIdDto);
 
+    /**
+     * Adds several tasks in one transaction. Invalid tasks are reported and skipped.
+     *
+     * @param tasks The DTOs containing the task details excluding the IDs.
+     * @return The per task results of the batch.
+     */
+    TaskBatchResultDto addTasks(List<TaskNoIdDto> tasks);
+
     /**
      * Updates an existing task.
      *
      * @param taskDto The DTO containing the updated task details, including its ID.
+     * @param expectedVersion The version the task must still have (from {@code If-Match}), or null for any version.
+     * @return A DTO representing the updated task, with its new version.
+     */
+    Versioned<TaskDto> updateTask(TaskDto taskDto, Long expectedVersion);
+
+    /**
+     * Partially updates a task with a JSON Merge Patch (RFC 7386) document.
+     *
+     * @param taskId The ID of the task to update.
+     * @param patch The merge patch: only the fields present in it are validated and changed.
      * @return A DTO representing the updated task.
      */
-    TaskDto updateTask(TaskDto taskDto);
+    TaskDto patchTask(UUID taskId, JsonNode patch);
 
     /**
      * Updates the status of a specific task.
@@ -39,7 +70,7 @@ public interface TaskService {
      * @param newStatus The new status to set for the task.
      * @return A DTO representing the updated task.
      */
-    TaskDto updateTaskStatus(UUID taskId, String newStatus);
+    TaskDto updateTaskStatus(UUID taskId, TaskStatus newStatus);
 
     /**
      * Deletes a task by its ID.
@@ -48,6 +79,65 @@ public interface TaskService {
      */
     void deleteTask(IdDto idDto);
 
+    /**
+     * Deletes every task matching the filter with one statement.
+     *
+     * @param filter The criteria of the tasks to delete.
+     * @return The number of deleted tasks.
+     */
+    BulkResultDto deleteTasks(TaskBulkFilterDto filter);
+
+    /**
+     * Changes the status of every task matching the filter with one statement.
+     *
+     * @param filter The criteria of the tasks to update.
+     * @param status The new status.
+     * @return The number of updated tasks.
+     */
+    BulkResultDto updateTasksStatus(TaskBulkFilterDto filter, TaskStatus status);
+
+    /**
+     * Writes the tasks matching the optional filters to an output stream, row by row.
+     *
+     * @param format The export format.
+     * @param status The status of the tasks, or null for any status.
+     * @param creatorId The ID of the creator, or null for any creator.
+     * @param executorId The ID of the executor, or null for any executor.
+     * @param out The stream to write to; it is flushed but not closed.
+     * @throws IOException If writing to the stream fails.
+     */
+    void exportTasks(TaskFileFormat format, TaskStatus status, UUID creatorId, UUID executorId,
+                     OutputStream out) throws IOException;
+
+    /**
+     * Retrieves a task by its ID.
+     *
+     * @param taskId The ID of the task.
+     * @return A DTO representing the task, with its version.
+     */
+    Versioned<TaskDto> findById(UUID taskId);
+
+    /**
+     * Searches tasks by the words of their title and description, most relevant first.
+     *
+     * @param query The search query.
+     * @param status Optional status of the tasks.
+     * @param executorId Optional ID of the executor of the tasks.
+     * @param pageable The pagination information, including page number and size.
+     * @return A page of the matching tasks.
+     */
+    Page<TaskDto> search(String query, TaskStatus status, UUID executorId, Pageable pageable);
+
+    /**
+     * Retrieves the tasks matching every provided criterion, with pagination and sort support.
+     *
+     * @param filter The optional criteria of the tasks.
+     * @param pageable The pagination information; the sort may only use id and dueDate.
+     * @param withTotal Whether to count the matching tasks.
+     * @return A page of the matching tasks, or a slice without total if not {@code withTotal}.
+     */
+    Slice<TaskDto> findAll(TaskFilterDto filter, Pageable pageable, boolean withTotal);
+
     /**
      * Retrieves all tasks with pagination support.
      *
@@ -62,7 +152,7 @@ public interface TaskService {
      * @param pageable The pagination information, including page number and size.
      * @return A page of tasks.
      */
-    Page<TaskDto> findByStatus(String status, Pageable pageable);
+    Page<TaskDto> findByStatus(TaskStatus status, Pageable pageable);
     /**
      * Retrieves all tasks assigned to a specific creator, with pagination support.
      *
@@ -81,4 +171,78 @@ public interface TaskService {
      */
     Page<TaskDto> findAllByExecutor(UUID idExecutor, Pageable pageable);
 
+    /**
+     * Computes the ETag of a {@link #findAll} page from the ids and versions of its tasks only.
+     *
+     * @param pageable The pagination information, including page number and size.
+     * @return The ETag of the page.
+     */
+    String findAllETag(Pageable pageable);
+
+    /**
+     * Computes the ETag of a {@link #findByStatus} page from the ids and versions of its tasks only.
+     *
+     * @param status The status of the tasks.
+     * @param pageable The pagination information, including page number and size.
+     * @return The ETag of the page.
+     */
+    String findByStatusETag(TaskStatus status, Pageable pageable);
+
+    /**
+     * Computes the ETag of a {@link #findAllByCreator} page from the ids and versions of its tasks only.
+     *
+     * @param idCreator The ID of the creator.
+     * @param pageable The pagination information, including page number and size.
+     * @return The ETag of the page.
+     */
+    String findAllByCreatorETag(UUID idCreator, Pageable pageable);
+
+    /**
+     * Computes the ETag of a {@link #findAllByExecutor} page from the ids and versions of its tasks only.
+     *
+     * @param idExecutor The ID of the executor.
+     * @param pageable The pagination information, including page number and size.
+     * @return The ETag of the page.
+     */
+    String findAllByExecutorETag(UUID idExecutor, Pageable pageable);
+
+    /**
+     * Retrieves a slice of all tasks with keyset (cursor) pagination support.
+     *
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A slice of tasks and the cursor of the next slice.
+     */
+    CursorPageDto<TaskDto> scrollAll(String cursor, int size);
+
+    /**
+     * Retrieves a slice of tasks by status with keyset (cursor) pagination support.
+     *
+     * @param status The status of the tasks.
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A slice of tasks and the cursor of the next slice.
+     */
+    CursorPageDto<TaskDto> scrollByStatus(TaskStatus status, String cursor, int size);
+
+    /**
+     * Retrieves a slice of tasks created by a specific user with keyset (cursor) pagination support.
+     *
+     * @param idCreator The ID of the creator whose tasks will be retrieved.
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A slice of tasks and the cursor of the next slice.
+     */
+    CursorPageDto<TaskDto> scrollAllByCreator(UUID idCreator, String cursor, int size);
+
+    /**
+     * Retrieves a slice of tasks assigned to a specific executor with keyset (cursor) pagination support.
+     *
+     * @param idExecutor The ID of the executor whose tasks will be retrieved.
+     * @param cursor The cursor returned with the previous slice, or null for the first slice.
+     * @param size The number of tasks per slice.
+     * @return A slice of tasks and the cursor of the next slice.
+     */
+    CursorPageDto<TaskDto> scrollAllByExecutor(UUID idExecutor, String cursor, int size);
+
 }
@@ -0,0 +1,27 @@
+package com.taskmanager.service.interfaces;
+
+import com.taskmanager.dto.TaskStatsDto;
+import java.util.UUID;
+
+/**
+ * Class TaskStatsService
+ *
+ * Service interface for the task counts per executor, status and priority.
+ */
+public interface TaskStatsService {
+
+    /**
+     * Retrieves the task counts by status and priority.
+     *
+     * @param executorId The UUID of the executor of the counted tasks, or null to count all tasks.
+     * @return A {@link TaskStatsDto} holding the counts.
+     */
+    TaskStatsDto getStats(UUID executorId);
+
+    /**
+     * Recomputes the counters from the tasks and corrects the ones that drifted.
+     *
+     * @return The number of corrected counters.
+     */
+    int reconcile();
+}
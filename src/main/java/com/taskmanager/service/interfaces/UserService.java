@@ -1,7 +1,9 @@
 package com.taskmanager.service.interfaces;
 
+import com.taskmanager.dto.projection.UserView;
 import com.taskmanager.entity.User;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Class UserService
@@ -17,5 +19,29 @@ public interface UserService {
      * @param login The email (login) of the user to be retrieved.
      * @return An {@link Optional} containing the user if found, or an empty {@link Optional} if no user with the specified email exists.
      */
-    Optional<User> getUserByEmail(String login);
+    Optional<UserView> getUserByEmail(String login);
+
+    /**
+     * Retrieves a user by their id.
+     *
+     * @param id The id of the user to be retrieved.
+     * @return An {@link Optional} containing the user if found, or an empty {@link Optional} if no user with the specified id exists.
+     */
+    Optional<UserView> getUserById(UUID id);
+
+    /**
+     * Checks the password of a user against the stored one.
+     *
+     * @param user The user.
+     * @param password The provided password.
+     * @return {@code true} if the password matches, {@code false} otherwise.
+     */
+    boolean isPasswordValid(UserView user, String password);
+
+    /**
+     * Invalidates the cached copies of a user. Must be called after the user (e.g. its role or email) is changed.
+     *
+     * @param user The changed user.
+     */
+    void evictUser(User user);
 }
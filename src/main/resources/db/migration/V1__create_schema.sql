@@ -0,0 +1,29 @@
+-- Baseline schema (formerly schema.sql)
+
+CREATE TABLE users (
+    id UUID NOT NULL,
+    full_name VARCHAR NOT NULL,
+    email VARCHAR NOT NULL,
+    "password" VARCHAR NOT NULL,
+    "role" VARCHAR NOT NULL,
+    CONSTRAINT email_password_unique UNIQUE (email, "password"),
+    CONSTRAINT user_pk PRIMARY KEY (id)
+);
+
+CREATE TABLE tasks (
+    id          UUID    NOT NULL,
+    title       VARCHAR NOT NULL,
+    description VARCHAR NULL,
+    status      VARCHAR NOT NULL,
+    priority    VARCHAR NOT NULL,
+    id_creator  UUID    NOT NULL,
+    id_executor UUID    NOT NULL,
+    due_date    DATE NULL,
+    CONSTRAINT task_pk PRIMARY KEY (id)
+);
+
+ALTER TABLE tasks
+    ADD CONSTRAINT task_creator_fk FOREIGN KEY (id_creator) REFERENCES users(id);
+
+ALTER TABLE tasks
+    ADD CONSTRAINT task_executor_fk FOREIGN KEY (id_executor) REFERENCES users(id);
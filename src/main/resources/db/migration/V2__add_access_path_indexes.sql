@@ -0,0 +1,10 @@
+-- Indexes matching the TaskRepository access paths
+
+-- Login and token lookups go by email only (UserRepository.findViewByEmail, behind the users.by-email cache)
+ALTER TABLE users DROP CONSTRAINT email_password_unique;
+ALTER TABLE users ADD CONSTRAINT user_email_unique UNIQUE (email);
+
+-- Each finder filters on one column and pages (or seeks) in id order
+CREATE INDEX task_status_id_idx ON tasks (status, id);
+CREATE INDEX task_creator_id_idx ON tasks (id_creator, id);
+CREATE INDEX task_executor_id_idx ON tasks (id_executor, id);
@@ -0,0 +1,10 @@
+-- Sessions shared by all instances when jwt.refresh.store=jdbc (JdbcRefreshTokenStore)
+
+CREATE TABLE refresh_tokens (
+    login      VARCHAR     NOT NULL,
+    token      VARCHAR     NULL,
+    expires_at TIMESTAMPTZ NOT NULL,
+    CONSTRAINT refresh_token_pk PRIMARY KEY (login)
+);
+
+CREATE INDEX refresh_token_expires_at_idx ON refresh_tokens (expires_at);
@@ -0,0 +1,4 @@
+-- Optimistic locking and ETag version signal of the tasks
+
+ALTER TABLE tasks
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,9 @@
+-- Full-text search over the task title (weight A) and description (weight B) (TaskRepository.searchIds)
+
+ALTER TABLE tasks
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX task_search_idx ON tasks USING GIN (search_vector);
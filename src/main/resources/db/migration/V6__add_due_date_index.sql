@@ -0,0 +1,3 @@
+-- Due-date range filters and the dueDate sort of GET /tasks (ties are broken by id)
+
+CREATE INDEX task_due_date_id_idx ON tasks (due_date, id);
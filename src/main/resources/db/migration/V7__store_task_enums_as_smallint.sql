@@ -0,0 +1,18 @@
+-- Task status and priority stored as smallint codes (TaskStatus, TaskPriority) instead of strings.
+-- An unknown value maps to NULL and makes the migration fail instead of being silently converted.
+
+ALTER TABLE tasks
+    ALTER COLUMN status TYPE SMALLINT USING CASE status
+        WHEN 'pending' THEN 0
+        WHEN 'in progress' THEN 1
+        WHEN 'completed' THEN 2
+    END,
+    ALTER COLUMN priority TYPE SMALLINT USING CASE priority
+        WHEN 'low' THEN 0
+        WHEN 'mid' THEN 1
+        WHEN 'high' THEN 2
+    END;
+
+ALTER TABLE tasks
+    ADD CONSTRAINT task_status_check CHECK (status BETWEEN 0 AND 2),
+    ADD CONSTRAINT task_priority_check CHECK (priority BETWEEN 0 AND 2);
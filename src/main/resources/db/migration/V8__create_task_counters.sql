@@ -0,0 +1,70 @@
+-- Task counts per executor, status and priority (GET /tasks/stats), maintained by statement-level triggers
+-- in the transaction of every task write, bulk statements and imports included. TaskStatsServiceImpl
+-- periodically reconciles them with the tasks table.
+
+CREATE TABLE task_counters (
+    id_executor UUID     NOT NULL,
+    status      SMALLINT NOT NULL,
+    priority    SMALLINT NOT NULL,
+    task_count  BIGINT   NOT NULL,
+    CONSTRAINT task_counters_pk PRIMARY KEY (id_executor, status, priority)
+);
+
+INSERT INTO task_counters (id_executor, status, priority, task_count)
+SELECT id_executor, status, priority, count(*)
+FROM tasks
+GROUP BY id_executor, status, priority;
+
+-- One upsert per changed counter and statement; counters are locked in key order to avoid deadlocks
+CREATE FUNCTION task_counters_apply() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO task_counters (id_executor, status, priority, task_count)
+        SELECT id_executor, status, priority, count(*)
+        FROM new_tasks
+        GROUP BY id_executor, status, priority
+        ORDER BY id_executor, status, priority
+        ON CONFLICT (id_executor, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO task_counters (id_executor, status, priority, task_count)
+        SELECT id_executor, status, priority, -count(*)
+        FROM old_tasks
+        GROUP BY id_executor, status, priority
+        ORDER BY id_executor, status, priority
+        ON CONFLICT (id_executor, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count;
+    ELSE
+        INSERT INTO task_counters (id_executor, status, priority, task_count)
+        SELECT id_executor, status, priority, sum(delta)
+        FROM (SELECT id_executor, status, priority, 1 AS delta FROM new_tasks
+              UNION ALL
+              SELECT id_executor, status, priority, -1 AS delta FROM old_tasks) changes
+        GROUP BY id_executor, status, priority
+        HAVING sum(delta) <> 0
+        ORDER BY id_executor, status, priority
+        ON CONFLICT (id_executor, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER task_counters_insert
+    AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS new_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION task_counters_apply();
+
+-- Transition tables rule out an UPDATE OF column list: updates leaving the counted columns unchanged
+-- produce only zero deltas, which are filtered out before the upsert
+CREATE TRIGGER task_counters_update
+    AFTER UPDATE ON tasks
+    REFERENCING OLD TABLE AS old_tasks NEW TABLE AS new_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION task_counters_apply();
+
+CREATE TRIGGER task_counters_delete
+    AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS old_tasks
+    FOR EACH STATEMENT EXECUTE FUNCTION task_counters_apply();
@@ -0,0 +1,49 @@
+-- Task writes take a shared advisory lock per executor of the changed tasks, held until they commit.
+-- TaskStatsServiceImpl recounts one executor at a time under the exclusive lock of that executor only:
+-- it waits for the pending writes of the executor, and the writes of the other executors never wait for it.
+-- The key is (hashtext('task_counters'), hashtext(executor id)); two executors sharing a hash share a lock.
+
+CREATE OR REPLACE FUNCTION task_counters_apply() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM pg_advisory_xact_lock_shared(hashtext('task_counters'), hashtext(id_executor::text))
+        FROM (SELECT DISTINCT id_executor FROM new_tasks) executors;
+
+        INSERT INTO task_counters (id_executor, status, priority, task_count)
+        SELECT id_executor, status, priority, count(*)
+        FROM new_tasks
+        GROUP BY id_executor, status, priority
+        ORDER BY id_executor, status, priority
+        ON CONFLICT (id_executor, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count;
+    ELSIF TG_OP = 'DELETE' THEN
+        PERFORM pg_advisory_xact_lock_shared(hashtext('task_counters'), hashtext(id_executor::text))
+        FROM (SELECT DISTINCT id_executor FROM old_tasks) executors;
+
+        INSERT INTO task_counters (id_executor, status, priority, task_count)
+        SELECT id_executor, status, priority, -count(*)
+        FROM old_tasks
+        GROUP BY id_executor, status, priority
+        ORDER BY id_executor, status, priority
+        ON CONFLICT (id_executor, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count;
+    ELSE
+        PERFORM pg_advisory_xact_lock_shared(hashtext('task_counters'), hashtext(id_executor::text))
+        FROM (SELECT id_executor FROM new_tasks UNION SELECT id_executor FROM old_tasks) executors;
+
+        INSERT INTO task_counters (id_executor, status, priority, task_count)
+        SELECT id_executor, status, priority, sum(delta)
+        FROM (SELECT id_executor, status, priority, 1 AS delta FROM new_tasks
+              UNION ALL
+              SELECT id_executor, status, priority, -1 AS delta FROM old_tasks) changes
+        GROUP BY id_executor, status, priority
+        HAVING sum(delta) <> 0
+        ORDER BY id_executor, status, priority
+        ON CONFLICT (id_executor, status, priority)
+            DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count;
+    END IF;
+    RETURN NULL;
+END;
+$$;
@@ -0,0 +1,23 @@
+-- Local development data (formerly the INSERT part of schema.sql)
+
+INSERT INTO users (id, full_name, email, "password", "role") VALUES
+('ecf72b35-4151-4439-a5a1-408d2ce330c5', 'John Doe', 'john.doe@example.com', 'password123', 'ADMIN'),
+('a88589c6-0f3a-47fc-8a43-78f9f9bb78ff', 'Jane Smith', 'jane.smith@example.com', 'password456', 'USER'),
+('2658929f-d34c-4f4c-96be-1c5653297406', 'Alice Johnson', 'alice.johnson@example.com', 'password789', 'USER'),
+('aa1fca78-b7a7-4235-8355-fe7937a3e4cd', 'Bob Brown', 'bob.brown@example.com', 'password321', 'ADMIN'),
+('892a0f4d-3615-43fd-b3d2-90171fac84df', 'Charlie Davis', 'charlie.davis@example.com', 'password654', 'USER')
+ON CONFLICT DO NOTHING;
+
+-- status: 0 pending, 1 in progress, 2 completed; priority: 0 low, 1 mid, 2 high
+INSERT INTO tasks (id, title, description, status, priority, id_creator, id_executor, due_date)
+VALUES ('0f55f5d5-62dd-4575-9fbc-ec54587b4c6b', 'Task 2', 'Description of Task 2', 1, 1,
+        'ecf72b35-4151-4439-a5a1-408d2ce330c5', 'a88589c6-0f3a-47fc-8a43-78f9f9bb78ff', '2023-12-15'),
+       ('92492d18-c388-4184-8785-cc1bb5f4ca09', 'Task 3', 'Description of Task 3', 2, 0,
+        'ecf72b35-4151-4439-a5a1-408d2ce330c5', '2658929f-d34c-4f4c-96be-1c5653297406', '2023-11-30'),
+       ('b7509aed-ecf6-4e10-bf02-8c39854cf0f3', 'Task 4', 'Description of Task 4', 0, 2,
+        'aa1fca78-b7a7-4235-8355-fe7937a3e4cd', '2658929f-d34c-4f4c-96be-1c5653297406', '2024-01-20'),
+       ('c35d78d6-6423-4d57-bb77-f26e5813aa15', 'Task 1', 'Description of Task 1', 0, 2,
+        'ecf72b35-4151-4439-a5a1-408d2ce330c5', 'a88589c6-0f3a-47fc-8a43-78f9f9bb78ff', '2023-12-10'),
+       ('3df93891-5afd-4c34-82d4-5e7b881da16c', 'Task 5', 'Description of Task 5', 1, 1,
+        'aa1fca78-b7a7-4235-8355-fe7937a3e4cd', '892a0f4d-3615-43fd-b3d2-90171fac84df', '2024-02-01')
+ON CONFLICT DO NOTHING;
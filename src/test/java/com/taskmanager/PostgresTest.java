@@ -0,0 +1,120 @@
+package com.taskmanager;
+
+import com.taskmanager.config.jwt.JwtProvider;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.dto.projection.UserView;
+import com.taskmanager.service.interfaces.RefreshTokenStore;
+import com.taskmanager.service.interfaces.UserService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * Class PostgresTest
+ *
+ * Base class of the tests running the application against PostgreSQL.
+ * One embedded PostgreSQL server is started per test JVM; Flyway creates the schema and loads the seed data
+ * ({@code db/seed}) in it, like on a local development database.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public abstract class PostgresTest {
+
+    /**
+     * Seed admin (John Doe).
+     */
+    public static final UUID ADMIN_ID = UUID.fromString("ecf72b35-4151-4439-a5a1-408d2ce330c5");
+    public static final String ADMIN_EMAIL = "john.doe@example.com";
+    /**
+     * Seed user (Jane Smith).
+     */
+    public static final UUID USER_ID = UUID.fromString("a88589c6-0f3a-47fc-8a43-78f9f9bb78ff");
+    public static final String USER_EMAIL = "jane.smith@example.com";
+    /**
+     * Seed user (Alice Johnson).
+     */
+    public static final UUID OTHER_USER_ID = UUID.fromString("2658929f-d34c-4f4c-96be-1c5653297406");
+    public static final String OTHER_USER_EMAIL = "alice.johnson@example.com";
+
+    private static final EmbeddedPostgres POSTGRES = start();
+
+    @Autowired
+    protected MockMvc mockMvc;
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtProvider jwtProvider;
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+    @Autowired
+    private UserService userService;
+
+    private static EmbeddedPostgres start() {
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    postgres.close();
+                } catch (IOException ignored) {
+                    // the data directory is temporary
+                }
+            }));
+            return postgres;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Embedded PostgreSQL failed to start", e);
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PostgresTest::jdbcUrl);
+    }
+
+    /**
+     * Returns the JDBC URL of the embedded server, for tests starting the application themselves.
+     *
+     * @return the URL of the application database.
+     */
+    public static String jdbcUrl() {
+        return POSTGRES.getJdbcUrl("postgres", "postgres") + "&currentSchema=task_management_system&reWriteBatchedInserts=true";
+    }
+
+    /**
+     * Logs a seed user in (a session is stored if they have none) and returns the value of the
+     * {@code Authorization} header of their requests.
+     *
+     * @param email The email of the user.
+     * @return {@code Bearer <access token>}.
+     */
+    protected String bearer(String email) {
+        UserView user = userService.getUserByEmail(email).orElseThrow();
+        refreshTokenStore.putIfAbsent(email, jwtProvider.generateRefreshToken(user));
+        return "Bearer " + jwtProvider.generateAccessToken(user);
+    }
+
+    /**
+     * Inserts a task directly in the tasks table.
+     *
+     * @param creatorId The ID of the creator.
+     * @param executorId The ID of the executor.
+     * @param status The status of the task.
+     * @return The ID of the new task.
+     */
+    protected UUID insertTask(UUID creatorId, UUID executorId, TaskStatus status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tasks (id, title, description, status, priority, id_creator, id_executor, due_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_DATE + 30)",
+                id, "Test task", "Inserted by " + getClass().getSimpleName(), status.getCode(),
+                TaskPriority.MID.getCode(), creatorId, executorId);
+        return id;
+    }
+}
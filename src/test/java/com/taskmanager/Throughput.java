@@ -0,0 +1,146 @@
+package com.taskmanager;
+
+import org.HdrHistogram.Histogram;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class Throughput
+ *
+ * Minimal load generator of the benchmarks: runs an operation in a loop on several threads for a fixed
+ * duration, after a warm-up, and measures the throughput and the latency distribution.
+ */
+public final class Throughput {
+
+    private Throughput() {
+    }
+
+    /**
+     * One operation of a benchmark.
+     */
+    @FunctionalInterface
+    public interface Operation {
+
+        /**
+         * Runs the operation once.
+         *
+         * @param thread The index of the calling thread (0 to threads - 1).
+         * @param iteration The number of operations already run by the calling thread.
+         * @return {@code true} if the operation succeeded, {@code false} if it was rejected.
+         * @throws Exception If the operation failed (counted as rejected).
+         */
+        boolean run(int thread, long iteration) throws Exception;
+    }
+
+    /**
+     * The measurement of a run.
+     *
+     * @param operations The number of operations (succeeded or rejected).
+     * @param rejected The number of rejected or failed operations.
+     * @param seconds The measured duration.
+     * @param latencies The latencies of all the operations, in microseconds.
+     */
+    public record Result(long operations, long rejected, double seconds, Histogram latencies) {
+
+        public double perSecond() {
+            return operations / seconds;
+        }
+
+        public double succeededPerSecond() {
+            return (operations - rejected) / seconds;
+        }
+
+        public long percentileMicros(double percentile) {
+            return latencies.getValueAtPercentile(percentile);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,.0f ops/s (%,d ops, %,d rejected), latency p50 %,d us, p99 %,d us, max %,d us",
+                    perSecond(), operations, rejected,
+                    percentileMicros(50), percentileMicros(99), latencies.getMaxValue());
+        }
+    }
+
+    /**
+     * Warms up then measures the operation.
+     *
+     * @param threads The number of threads running the operation.
+     * @param warmUp The warm-up duration (not measured).
+     * @param duration The measured duration.
+     * @param operation The operation.
+     * @return The {@link Result} of the measured part.
+     */
+    public static Result run(int threads, Duration warmUp, Duration duration, Operation operation) {
+        if (!warmUp.isZero()) {
+            measure(threads, warmUp, operation);
+        }
+        return measure(threads, duration, operation);
+    }
+
+    private static Result measure(int threads, Duration duration, Operation operation) {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>(threads);
+        List<Histogram> histograms = new ArrayList<>(threads);
+        long[] rejected = new long[threads];
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            Histogram histogram = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+            histograms.add(histogram);
+            workers.add(Thread.ofPlatform().name("benchmark-" + t).start(() -> {
+                awaitQuietly(start);
+                for (long i = 0; running.get(); i++) {
+                    long begin = System.nanoTime();
+                    boolean succeeded;
+                    try {
+                        succeeded = operation.run(thread, i);
+                    } catch (Exception e) {
+                        succeeded = false;
+                    }
+                    histogram.recordValue(Math.min((System.nanoTime() - begin) / 1000, histogram.getHighestTrackableValue()));
+                    if (!succeeded) rejected[thread]++;
+                }
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        sleepQuietly(duration);
+        running.set(false);
+        for (Thread worker : workers) {
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        Histogram latencies = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+        histograms.forEach(latencies::add);
+        long rejectedTotal = 0;
+        for (long count : rejected) rejectedTotal += count;
+        return new Result(latencies.getTotalCount(), rejectedTotal, seconds, latencies);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
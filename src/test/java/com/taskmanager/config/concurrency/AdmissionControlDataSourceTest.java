@@ -0,0 +1,62 @@
+package com.taskmanager.config.concurrency;
+
+import com.taskmanager.config.concurrency.AdmissionControlDataSource.AdmissionTimeoutException;
+import org.junit.jupiter.api.Test;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Class AdmissionControlDataSourceTest
+ *
+ * Permits of the {@link AdmissionControlDataSource}: taken per borrowed connection, given back once on close,
+ * and a thread not admitted in time fails fast.
+ */
+class AdmissionControlDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+    private final AdmissionControlDataSource dataSource = new AdmissionControlDataSource(pool, 2, 50);
+
+    @Test
+    void threadBeyondTheLimitTimesOut() throws SQLException {
+        when(pool.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(AdmissionTimeoutException.class);
+        assertThat((System.nanoTime() - start) / 1_000_000).isBetween(40L, 5_000L);
+
+        first.close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    void permitIsGivenBackOnceWhenTheConnectionIsClosed() throws SQLException {
+        Connection pooled = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooled);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+        verify(pooled).close();
+    }
+
+    @Test
+    void permitIsGivenBackWhenThePoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("Pool timeout"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("Pool timeout");
+
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanager.config.concurrency;
+
+import com.taskmanager.PostgresTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class VirtualThreadAdmissionTest
+ *
+ * The virtual-thread mode with two admission permits (Flyway needs two connections at startup):
+ * a request not admitted in time is answered with 503 and {@code Retry-After}, and is served again
+ * once a permit is free.
+ */
+@TestPropertySource(properties = {
+        "spring.threads.virtual.enabled=true",
+        "db.admission.permits=2",
+        "db.admission.timeout-ms=100"
+})
+class VirtualThreadAdmissionTest extends PostgresTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void requestNotAdmittedInTimeIsUnavailable() throws Exception {
+        assertThat(dataSource).isInstanceOf(AdmissionControlDataSource.class);
+        String authorization = bearer(USER_EMAIL);
+
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            mockMvc.perform(get("/tasks/all").header(HttpHeaders.AUTHORIZATION, authorization))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        }
+
+        mockMvc.perform(get("/tasks/all").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk());
+    }
+}
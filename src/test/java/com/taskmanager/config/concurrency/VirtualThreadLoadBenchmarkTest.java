@@ -0,0 +1,89 @@
+package com.taskmanager.config.concurrency;
+
+import com.taskmanager.ApiApplication;
+import com.taskmanager.PostgresTest;
+import com.taskmanager.Throughput;
+import com.taskmanager.config.jwt.JwtProvider;
+import com.taskmanager.dto.projection.UserView;
+import com.taskmanager.service.interfaces.RefreshTokenStore;
+import com.taskmanager.service.interfaces.UserService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class VirtualThreadLoadBenchmarkTest
+ *
+ * Load test of the two execution modes ({@code mvn test -Pbenchmark}): the application is started on a random
+ * port with platform request threads ({@value #PLATFORM_THREADS} Tomcat threads), then with virtual threads and
+ * admission control, and {@value #CLIENTS} concurrent clients read task pages ({@code GET /tasks/all}) through
+ * the default pool of 10 connections. Throughput, p50/p99 latencies and 503 (not admitted) responses are printed.
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CLIENTS = 400;
+    private static final int PLATFORM_THREADS = 50;
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration DURATION = Duration.ofSeconds(15);
+
+    @Test
+    void platformAgainstVirtualThreads() {
+        Result platform = run(false);
+        Result virtual = run(true);
+        System.out.printf("platform threads  %s, %,d not admitted%n", platform.throughput(), platform.unavailable());
+        System.out.printf("virtual threads   %s, %,d not admitted%n", virtual.throughput(), virtual.unavailable());
+
+        // Only a 503 may answer a request that is not admitted, never another error
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+        assertThat(platform.unavailable()).isZero();
+        assertThat(virtual.throughput().succeededPerSecond()).isPositive();
+    }
+
+    /**
+     * The measurement of one mode: the 503 responses and the other errors are counted apart.
+     */
+    private record Result(Throughput.Result throughput, long unavailable, long errors) {
+    }
+
+    private Result run(boolean virtualThreads) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class).properties(
+                "spring.datasource.url=" + PostgresTest.jdbcUrl(),
+                "server.port=0",
+                "server.tomcat.threads.max=" + PLATFORM_THREADS,
+                "spring.threads.virtual.enabled=" + virtualThreads).run()) {
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/tasks/all?size=20");
+            String authorization = bearer(context, PostgresTest.USER_EMAIL);
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            AtomicLong unavailable = new AtomicLong();
+            AtomicLong errors = new AtomicLong();
+
+            Throughput.Result throughput = Throughput.run(CLIENTS, WARM_UP, DURATION, (thread, iteration) -> {
+                HttpRequest request = HttpRequest.newBuilder(uri).header(HttpHeaders.AUTHORIZATION, authorization).build();
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == 503) unavailable.incrementAndGet();
+                else if (status != 200) errors.incrementAndGet();
+                return status == 200;
+            });
+            return new Result(throughput, unavailable.get(), errors.get());
+        }
+    }
+
+    private static String bearer(ConfigurableApplicationContext context, String email) {
+        UserView user = context.getBean(UserService.class).getUserByEmail(email).orElseThrow();
+        context.getBean(RefreshTokenStore.class).putIfAbsent(email, context.getBean(JwtProvider.class).generateRefreshToken(user));
+        return "Bearer " + context.getBean(JwtProvider.class).generateAccessToken(user);
+    }
+}
@@ -0,0 +1,135 @@
+package com.taskmanager.config.sql;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class SqlStatementBudgetTest
+ *
+ * SQL statement budget of every task endpoint, counted by {@link SqlStatementCounter}.
+ * A budget that fails here is an N+1 select (or any new statement) added to the endpoint:
+ * the budget may only be raised on purpose.
+ */
+class SqlStatementBudgetTest extends PostgresTest {
+
+    @Test
+    void listPageRunsETagPageAndCountQueries() throws Exception {
+        assertBudget(get("/tasks/all").param("size", "20"), 3);
+    }
+
+    @Test
+    void filteredListRunsOneQuery() throws Exception {
+        assertBudget(get("/tasks").param("status", "pending").param("size", "20"), 1);
+    }
+
+    @Test
+    void filteredListWithTotalRunsPageAndCountQueries() throws Exception {
+        assertBudget(get("/tasks").param("status", "pending").param("size", "20").param("withTotal", "true"), 2);
+    }
+
+    @Test
+    void listSliceRunsOneQuery() throws Exception {
+        assertBudget(get("/tasks/all/scroll").param("size", "20"), 1);
+    }
+
+    @Test
+    void getRunsOneQueryThenIsCached() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        // Exact counts: the first request proves that the counter sees the statements
+        assertThat(assertBudget(get("/tasks/{taskId}", taskId), 1)).isEqualTo(1);
+        assertThat(assertBudget(get("/tasks/{taskId}", taskId), 0)).isZero();
+    }
+
+    @Test
+    void createRunsOneInsert() throws Exception {
+        assertBudget(post("/tasks/new")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"title": "Budget", "description": "Created by the budget test", "status": "pending",
+                         "priority": "low", "dueDate": "2030-01-01",
+                         "creator": %1$s, "executor": %1$s}""".formatted(user(ADMIN_ID, ADMIN_EMAIL))), 1);
+    }
+
+    @Test
+    void updateChecksTheUsersThenRunsOneSelectAndOneUpdate() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        // The creator and executor checks hit the database only until the users are cached
+        assertBudget(update(taskId), 4);
+        assertBudget(update(taskId), 2);
+    }
+
+    @Test
+    void patchRunsOneSelectAndOneUpdate() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        assertBudget(patch("/tasks/{taskId}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"title\": \"Patched by the budget test\"}"), 2);
+    }
+
+    @Test
+    void executorPatchChecksTheUserThenRunsOneSelectAndOneUpdate() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        // The new executor is read from the user cache, so its entity is never loaded
+        assertBudget(executorPatch(taskId, OTHER_USER_ID), 3);
+        assertThat(assertBudget(executorPatch(taskId, USER_ID), 2)).isEqualTo(2);
+    }
+
+    @Test
+    void statusChangeRunsPermissionCheckUpdateAndSelect() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        assertBudget(patch("/tasks/{taskId}/status", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"completed\"}"), 3);
+    }
+
+    /**
+     * Performs the request as the seed admin and checks that it succeeds within the budget.
+     *
+     * @return the number of SQL statements of the request.
+     */
+    private int assertBudget(MockHttpServletRequestBuilder request, int budget) throws Exception {
+        request.header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL));
+        SqlStatementCounter.reset();
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+        int count = SqlStatementCounter.count();
+        assertThat(count).as("SQL statements").isLessThanOrEqualTo(budget);
+        return count;
+    }
+
+    private static MockHttpServletRequestBuilder update(UUID taskId) {
+        return put("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"id": "%s", "title": "Budget", "description": "Updated by the budget test", "status": "completed",
+                         "priority": "high", "dueDate": "2030-01-01", "creator": %s, "executor": %s}"""
+                        .formatted(taskId, user(ADMIN_ID, ADMIN_EMAIL), user(USER_ID, USER_EMAIL)));
+    }
+
+    private static MockHttpServletRequestBuilder executorPatch(UUID taskId, UUID executorId) {
+        return patch("/tasks/{taskId}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"executor\": {\"id\": \"%s\"}}".formatted(executorId));
+    }
+
+    private static String user(UUID id, String email) {
+        return """
+                {"id": "%s", "fullName": "Seed user", "email": "%s", "role": "USER"}""".formatted(id, email);
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.Throughput;
+import com.taskmanager.service.TaskServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Class TaskBatchBenchmarkTest
+ *
+ * Insert throughput, in rows per second, of {@code POST /tasks/new} (one task per request and transaction)
+ * against {@code POST /tasks/batch} (one JDBC batch per request), on {@value #THREADS} threads
+ * ({@code mvn test -Pbenchmark}).
+ */
+@Tag("benchmark")
+class TaskBatchBenchmarkTest extends PostgresTest {
+
+    private static final int THREADS = 4;
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration DURATION = Duration.ofSeconds(10);
+    private static final String DESCRIPTION = "Created by TaskBatchBenchmarkTest";
+    private static final String TASK = """
+            {"title": "Benchmark", "description": "%1$s", "status": "pending", "priority": "low",
+             "dueDate": "2030-01-01", "creator": %2$s, "executor": %2$s}""".formatted(DESCRIPTION, """
+            {"id": "%s", "fullName": "John Doe", "email": "%s", "role": "ADMIN"}""".formatted(ADMIN_ID, ADMIN_EMAIL));
+
+    @AfterEach
+    void deleteTasks() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE description = ?", DESCRIPTION);
+    }
+
+    @Test
+    void batchInsertsMoreRowsPerSecond() {
+        String authorization = bearer(ADMIN_EMAIL);
+        Map<String, Double> rowsPerSecond = new LinkedHashMap<>();
+        rowsPerSecond.put("single", rowsPerSecond(authorization, 1));
+        for (int size : new int[]{10, 100, TaskServiceImpl.MAX_BATCH_SIZE}) {
+            rowsPerSecond.put("batch of " + size, rowsPerSecond(authorization, size));
+        }
+        rowsPerSecond.forEach((run, rows) -> System.out.printf("%-14s %,10.0f rows/s%n", run, rows));
+
+        assertThat(rowsPerSecond.get("batch of 100")).isGreaterThan(rowsPerSecond.get("single"));
+    }
+
+    /**
+     * Creates tasks in requests of {@code size} tasks ({@code POST /tasks/new} for a single task).
+     */
+    private double rowsPerSecond(String authorization, int size) {
+        String uri = size == 1 ? "/tasks/new" : "/tasks/batch";
+        StringJoiner body = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < size; i++) body.add(TASK);
+        String content = size == 1 ? TASK : body.toString();
+
+        Throughput.Result result = Throughput.run(THREADS, WARM_UP, DURATION, (thread, iteration) ->
+                mockMvc.perform(post(uri)
+                                .header(HttpHeaders.AUTHORIZATION, authorization)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(content))
+                        .andReturn().getResponse().getStatus() / 100 == 2);
+        System.out.printf("%-14s %s%n", size == 1 ? "single" : "batch of " + size, result);
+        assertThat(result.rejected()).isZero();
+        return result.succeededPerSecond() * size;
+    }
+}
@@ -0,0 +1,144 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskBulkTest
+ *
+ * {@code DELETE /tasks/bulk} and {@code PATCH /tasks/status/bulk}: the permissions are part of the statement,
+ * unchanged tasks are neither counted nor written, and a filter must have between one criterion and 500 ids.
+ */
+class TaskBulkTest extends PostgresTest {
+
+    @Test
+    void userDeletesOnlyTheTasksTheyCreated() throws Exception {
+        UUID own = insertTask(USER_ID, OTHER_USER_ID, TaskStatus.PENDING);
+        UUID ownCompleted = insertTask(USER_ID, ADMIN_ID, TaskStatus.COMPLETED);
+        UUID others = insertTask(OTHER_USER_ID, USER_ID, TaskStatus.PENDING);
+
+        perform(delete("/tasks/bulk"), USER_EMAIL, filter(own, ownCompleted, others))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        assertThat(existing(own, ownCompleted, others)).containsExactly(others);
+    }
+
+    @Test
+    void adminDeletesEveryMatchingTask() throws Exception {
+        UUID pending = insertTask(USER_ID, OTHER_USER_ID, TaskStatus.PENDING);
+        UUID completed = insertTask(OTHER_USER_ID, USER_ID, TaskStatus.COMPLETED);
+        UUID otherCompleted = insertTask(USER_ID, USER_ID, TaskStatus.COMPLETED);
+
+        perform(delete("/tasks/bulk"), ADMIN_EMAIL, """
+                {"ids": [%s], "status": "completed"}""".formatted(ids(pending, completed, otherCompleted)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        assertThat(existing(pending, completed, otherCompleted)).containsExactly(pending);
+    }
+
+    @Test
+    void userChangesTheStatusOnlyOfTheTasksTheyExecute() throws Exception {
+        UUID executed = insertTask(OTHER_USER_ID, USER_ID, TaskStatus.PENDING);
+        UUID created = insertTask(USER_ID, OTHER_USER_ID, TaskStatus.PENDING);
+
+        perform(patch("/tasks/status/bulk"), USER_EMAIL, statusChange(filter(executed, created), "completed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(1));
+
+        assertThat(storedStatus(executed)).isEqualTo(TaskStatus.COMPLETED.getCode());
+        assertThat(storedStatus(created)).isEqualTo(TaskStatus.PENDING.getCode());
+    }
+
+    @Test
+    void tasksAlreadyInTheStatusAreNeitherCountedNorWritten() throws Exception {
+        UUID pending = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+        UUID inProgress = insertTask(ADMIN_ID, USER_ID, TaskStatus.IN_PROGRESS);
+        UUID completed = insertTask(ADMIN_ID, USER_ID, TaskStatus.COMPLETED);
+        long completedVersion = version(completed);
+
+        perform(patch("/tasks/status/bulk"), ADMIN_EMAIL,
+                statusChange(filter(pending, inProgress, completed), "completed"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        assertThat(version(completed)).isEqualTo(completedVersion);
+        assertThat(version(pending)).isEqualTo(version(inProgress)).isGreaterThan(completedVersion);
+        assertThat(Stream.of(pending, inProgress, completed).map(this::storedStatus))
+                .containsOnly(TaskStatus.COMPLETED.getCode());
+    }
+
+    @Test
+    void rejectsFiltersWithoutCriterion() throws Exception {
+        for (String filter : List.of("{}", "{\"ids\": []}")) {
+            perform(delete("/tasks/bulk"), ADMIN_EMAIL, filter)
+                    .andExpect(status().isBadRequest());
+            perform(patch("/tasks/status/bulk"), ADMIN_EMAIL, statusChange(filter, "completed"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void rejectsMoreThan500Ids() throws Exception {
+        UUID task = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+        UUID[] ids = Stream.concat(Stream.of(task), Stream.generate(UUID::randomUUID).limit(500))
+                .toArray(UUID[]::new);
+
+        perform(delete("/tasks/bulk"), ADMIN_EMAIL, filter(ids))
+                .andExpect(status().isBadRequest());
+        perform(patch("/tasks/status/bulk"), ADMIN_EMAIL, statusChange(filter(ids), "completed"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(existing(task)).containsExactly(task);
+        assertThat(storedStatus(task)).isEqualTo(TaskStatus.PENDING.getCode());
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request, String email, String body) throws Exception {
+        return mockMvc.perform(request
+                .header(HttpHeaders.AUTHORIZATION, bearer(email))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+    }
+
+    private static String filter(UUID... ids) {
+        return "{\"ids\": [%s]}".formatted(ids(ids));
+    }
+
+    private static String statusChange(String filter, String status) {
+        return "{\"filter\": %s, \"status\": {\"name\": \"%s\"}}".formatted(filter, status);
+    }
+
+    private static String ids(UUID... ids) {
+        return Stream.of(ids).map(id -> "\"" + id + "\"").collect(Collectors.joining(", "));
+    }
+
+    private List<UUID> existing(UUID... ids) {
+        return Stream.of(ids)
+                .filter(id -> jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE id = ?", Long.class, id) > 0)
+                .toList();
+    }
+
+    private short storedStatus(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT status FROM tasks WHERE id = ?", Short.class, id);
+    }
+
+    private long version(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, id);
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskCacheTest
+ *
+ * {@code GET /tasks/{taskId}} through the task cache: every task write evicts the task, so the next read returns
+ * the new state; a matching {@code If-None-Match} gets {@code 304}; hits and misses are published as metrics.
+ */
+class TaskCacheTest extends PostgresTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID taskId;
+
+    @BeforeEach
+    void insertAndCacheTask() throws Exception {
+        taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+        getTask().andExpect(status().isOk()).andExpect(jsonPath("$.title").value("Test task"));
+    }
+
+    @Test
+    void updateEvictsTheTask() throws Exception {
+        perform(put("/tasks").contentType(MediaType.APPLICATION_JSON).content("""
+                {"id": "%s", "title": "Put title", "description": "Updated", "status": "in progress",
+                 "priority": "high", "dueDate": "2030-01-01", "creator": {"id": "%s"}, "executor": {"id": "%s"}}"""
+                .formatted(taskId, ADMIN_ID, USER_ID)));
+
+        getTask().andExpect(jsonPath("$.title").value("Put title"))
+                .andExpect(jsonPath("$.status").value("in progress"));
+    }
+
+    @Test
+    void patchEvictsTheTask() throws Exception {
+        perform(patch("/tasks/{taskId}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"title\": \"Patched title\"}"));
+
+        getTask().andExpect(jsonPath("$.title").value("Patched title"));
+    }
+
+    @Test
+    void statusChangeEvictsTheTask() throws Exception {
+        perform(patch("/tasks/{taskId}/status", taskId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"completed\"}"));
+
+        getTask().andExpect(jsonPath("$.status").value("completed"));
+    }
+
+    @Test
+    void deleteEvictsTheTask() throws Exception {
+        perform(delete("/tasks")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\": \"%s\"}".formatted(taskId)));
+
+        getTask().andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void answersAMatchingETagWithNotModified() throws Exception {
+        String eTag = getTask().andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/tasks/{taskId}", taskId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        perform(patch("/tasks/{taskId}", taskId)
+                .contentType("application/merge-patch+json")
+                .content("{\"title\": \"Changed\"}"));
+        mockMvc.perform(get("/tasks/{taskId}", taskId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL))
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(eTag)));
+    }
+
+    @Test
+    void publishesTheHitsAndMisses() throws Exception {
+        double hits = gets("hit");
+        double misses = gets("miss");
+
+        getTask();
+        getTask();
+        assertThat(gets("hit")).isEqualTo(hits + 2);
+        assertThat(gets("miss")).isEqualTo(misses);
+
+        insertAndCacheTask();
+        assertThat(gets("miss")).isEqualTo(misses + 1);
+    }
+
+    private ResultActions getTask() throws Exception {
+        return mockMvc.perform(get("/tasks/{taskId}", taskId).header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)));
+    }
+
+    private void perform(MockHttpServletRequestBuilder request) throws Exception {
+        mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL)))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "tasks.by-id").tag("result", result)
+                .functionCounter().count();
+    }
+}
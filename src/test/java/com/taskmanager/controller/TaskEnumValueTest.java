@@ -0,0 +1,86 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskEnumValueTest
+ *
+ * An unknown task status or priority, in a request body or a request parameter, gets {@code 400} with the
+ * accepted values: in the {@code errorsMap} under the field for a body or the filter of {@code GET /tasks},
+ * in the {@code description} otherwise.
+ */
+class TaskEnumValueTest extends PostgresTest {
+
+    private static final String STATUSES = "Statuses that are acceptable: pending|in progress|completed";
+    private static final String PRIORITIES = "Priorities that are acceptable: high|mid|low";
+
+    @Test
+    void rejectsUnknownValuesOfANewTask() throws Exception {
+        perform(post("/tasks/new").contentType(MediaType.APPLICATION_JSON).content(newTask("done", "mid")))
+                .andExpect(jsonPath("$.errorsMap.status").value(STATUSES));
+        perform(post("/tasks/new").contentType(MediaType.APPLICATION_JSON).content(newTask("pending", "urgent")))
+                .andExpect(jsonPath("$.errorsMap.priority").value(PRIORITIES));
+    }
+
+    @Test
+    void rejectsAnUnknownStatusChange() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        perform(patch("/tasks/{taskId}/status", taskId).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"done\"}"))
+                .andExpect(jsonPath("$.errorsMap.name").value(STATUSES));
+    }
+
+    @Test
+    void rejectsUnknownValuesOfAPatch() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        perform(patch("/tasks/{taskId}", taskId).contentType("application/merge-patch+json")
+                .content("{\"status\": \"done\"}"))
+                .andExpect(jsonPath("$.description").value(STATUSES));
+        perform(patch("/tasks/{taskId}", taskId).contentType("application/merge-patch+json")
+                .content("{\"priority\": \"urgent\"}"))
+                .andExpect(jsonPath("$.description").value(PRIORITIES));
+    }
+
+    @Test
+    void rejectsUnknownValuesOfTheParameters() throws Exception {
+        perform(get("/tasks/by-status").param("status", "done"))
+                .andExpect(jsonPath("$.description").value(STATUSES));
+        perform(get("/tasks/search").param("q", "report").param("status", "done"))
+                .andExpect(jsonPath("$.description").value(STATUSES));
+    }
+
+    @Test
+    void rejectsUnknownValuesOfTheFilter() throws Exception {
+        perform(get("/tasks").param("status", "done"))
+                .andExpect(jsonPath("$.errorsMap.status").value(STATUSES));
+        perform(get("/tasks").param("priority", "urgent"))
+                .andExpect(jsonPath("$.errorsMap.priority").value(PRIORITIES));
+    }
+
+    private ResultActions perform(MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request.header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static String newTask(String status, String priority) {
+        return """
+                {"title": "Unknown values", "description": "Rejected", "status": "%s", "priority": "%s",
+                 "dueDate": "2030-01-01", "creator": {"id": "%s"}, "executor": {"id": "%s"}}"""
+                .formatted(status, priority, ADMIN_ID, USER_ID);
+    }
+}
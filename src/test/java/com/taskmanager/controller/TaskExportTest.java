@@ -0,0 +1,97 @@
+package com.taskmanager.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MvcResult;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskExportTest
+ *
+ * {@code GET /tasks/export}: the body is streamed from an async dispatch, which must go through the security
+ * filter chain like the request that started it.
+ */
+class TaskExportTest extends PostgresTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void exportsNdjson() throws Exception {
+        List<UUID> tasks = insertTasks(TaskStatus.IN_PROGRESS);
+
+        String body = export("ndjson", TaskStatus.IN_PROGRESS, "application/x-ndjson");
+
+        List<String> ids = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            JsonNode task = objectMapper.readTree(line);
+            assertThat(task.get("status").asText()).isEqualTo("in progress");
+            ids.add(task.get("id").asText());
+        }
+        assertThat(ids).containsAll(tasks.stream().map(UUID::toString).toList());
+    }
+
+    @Test
+    void exportsCsv() throws Exception {
+        List<UUID> tasks = insertTasks(TaskStatus.COMPLETED);
+
+        String body = export("csv", TaskStatus.COMPLETED, "text/csv");
+
+        String[] lines = body.split("\n");
+        assertThat(lines[0]).isEqualTo("id,title,description,status,priority,dueDate,"
+                + "creatorId,creatorEmail,executorId,executorEmail");
+        for (UUID task : tasks) {
+            assertThat(lines).anySatisfy(line -> assertThat(line)
+                    .startsWith(task + ",Test task,")
+                    .contains(",completed,")
+                    .endsWith("," + OTHER_USER_ID + "," + OTHER_USER_EMAIL));
+        }
+    }
+
+    @Test
+    void unknownFormatIsRejected() throws Exception {
+        mockMvc.perform(get("/tasks/export").param("format", "xml")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<UUID> insertTasks(TaskStatus status) {
+        List<UUID> tasks = new ArrayList<>();
+        for (int i = 0; i < 3; i++) tasks.add(insertTask(ADMIN_ID, OTHER_USER_ID, status));
+        return tasks;
+    }
+
+    /**
+     * Exports the tasks of the other seed user as a seed user, completing the async dispatch of the stream.
+     */
+    private String export(String format, TaskStatus status, String mediaType) throws Exception {
+        MvcResult started = mockMvc.perform(get("/tasks/export")
+                        .param("format", format)
+                        .param("status", status.getValue())
+                        .param("executorId", OTHER_USER_ID.toString())
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + format + "\""))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
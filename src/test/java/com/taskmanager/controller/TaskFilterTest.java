@@ -0,0 +1,112 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.ResultActions;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskFilterTest
+ *
+ * {@code GET /tasks}: every criterion narrows the page, the page is sorted by the requested indexed property
+ * and the tasks carry their creator and executor; the matching tasks are only counted with {@code withTotal=true}.
+ */
+class TaskFilterTest extends PostgresTest {
+
+    /**
+     * The due dates of the tasks of this test, far from the dates of the other tests.
+     */
+    private static final LocalDate FIRST_DUE_DATE = LocalDate.of(2041, 3, 1);
+
+    private final List<UUID> tasks = new ArrayList<>();
+
+    @BeforeEach
+    void insertTasks() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE due_date >= ? AND due_date < ?",
+                FIRST_DUE_DATE, FIRST_DUE_DATE.plusDays(10));
+        tasks.clear();
+        for (int i = 0; i < 6; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO tasks (id, title, description, status, priority, id_creator, id_executor, due_date) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    id, "Filtered task " + i, "Inserted by TaskFilterTest",
+                    (i % 2 == 0 ? TaskStatus.PENDING : TaskStatus.COMPLETED).getCode(),
+                    (i < 3 ? TaskPriority.HIGH : TaskPriority.LOW).getCode(),
+                    ADMIN_ID, i % 3 == 0 ? USER_ID : OTHER_USER_ID, FIRST_DUE_DATE.plusDays(i));
+            tasks.add(id);
+        }
+    }
+
+    @Test
+    void combinesEveryCriterion() throws Exception {
+        getTasks("dueFrom", FIRST_DUE_DATE.toString(), "dueTo", FIRST_DUE_DATE.plusDays(5).toString(), "withTotal", "true")
+                .andExpect(jsonPath("$.totalElements").value(6));
+        getTasks("dueFrom", FIRST_DUE_DATE.toString(), "dueTo", FIRST_DUE_DATE.plusDays(4).toString(),
+                "status", "pending", "sort", "dueDate")
+                .andExpect(jsonPath("$.content[*].id").value(contains(ids(0, 2, 4))));
+        getTasks("dueFrom", FIRST_DUE_DATE.toString(), "status", "pending", "priority", "high", "sort", "dueDate")
+                .andExpect(jsonPath("$.content[*].id").value(contains(ids(0, 2))));
+        getTasks("dueFrom", FIRST_DUE_DATE.toString(), "dueTo", FIRST_DUE_DATE.plusDays(5).toString(),
+                "executorId", USER_ID.toString(), "creatorId", ADMIN_ID.toString(), "sort", "dueDate")
+                .andExpect(jsonPath("$.content[*].id").value(contains(ids(0, 3))))
+                .andExpect(jsonPath("$.content[0].creator.email").value(ADMIN_EMAIL))
+                .andExpect(jsonPath("$.content[0].executor.email").value(USER_EMAIL));
+    }
+
+    @Test
+    void sortsByDueDateAndCountsEveryPage() throws Exception {
+        getTasks("dueFrom", FIRST_DUE_DATE.toString(), "dueTo", FIRST_DUE_DATE.plusDays(5).toString(),
+                "sort", "dueDate", "direction", "desc", "size", "4", "page", "1", "withTotal", "true")
+                .andExpect(jsonPath("$.totalElements").value(6))
+                .andExpect(jsonPath("$.content[*].id").value(contains(ids(1, 0))));
+    }
+
+    @Test
+    void countsOnlyOnRequest() throws Exception {
+        String dueFrom = FIRST_DUE_DATE.toString();
+        String dueTo = FIRST_DUE_DATE.plusDays(5).toString();
+        getTasks("dueFrom", dueFrom, "dueTo", dueTo, "sort", "dueDate", "size", "3")
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.content[*].id").value(contains(ids(0, 1, 2))));
+        getTasks("dueFrom", dueFrom, "dueTo", dueTo, "sort", "dueDate", "size", "3", "page", "1")
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.content[*].id").value(contains(ids(3, 4, 5))));
+        getTasks("dueFrom", dueFrom, "dueTo", dueTo, "sort", "dueDate", "size", "4", "page", "1")
+                .andExpect(jsonPath("$.last").value(true))
+                .andExpect(jsonPath("$.content[*].id").value(contains(ids(4, 5))));
+    }
+
+    @Test
+    void rejectsUnindexedSorts() throws Exception {
+        mockMvc.perform(get("/tasks").param("sort", "title")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions getTasks(String... params) throws Exception {
+        var request = get("/tasks").header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL));
+        for (int i = 0; i < params.length; i += 2) {
+            request.param(params[i], params[i + 1]);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    private String[] ids(int... indexes) {
+        String[] ids = new String[indexes.length];
+        for (int i = 0; i < indexes.length; i++) ids[i] = tasks.get(indexes[i]).toString();
+        return ids;
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.Throughput;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * Class TaskPatchBenchmarkTest
+ *
+ * Changing only the title of a task with {@code PUT /tasks} (the whole task) against
+ * {@code PATCH /tasks/{taskId}} (a merge patch of the title), on {@value #THREADS} threads each updating its own task
+ * ({@code mvn test -Pbenchmark}): request payload size, WAL bytes written per update and throughput.
+ */
+@Tag("benchmark")
+class TaskPatchBenchmarkTest extends PostgresTest {
+
+    private static final int THREADS = 4;
+    private static final int WAL_UPDATES = 200;
+    private static final Duration WARM_UP = Duration.ofSeconds(3);
+    private static final Duration DURATION = Duration.ofSeconds(10);
+    private static final String USER = """
+            {"id": "%s", "fullName": "Seed user", "email": "%s", "role": "USER"}""";
+
+    /**
+     * A title update request: its builder and its body.
+     */
+    private record Update(MockHttpServletRequestBuilder request, String body) {
+    }
+
+    @Test
+    void patchSendsAndWritesLess() throws Exception {
+        String authorization = bearer(ADMIN_EMAIL);
+        UUID[] tasks = new UUID[THREADS];
+        for (int t = 0; t < THREADS; t++) tasks[t] = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+
+        BiFunction<UUID, String, Update> put = (taskId, title) -> {
+            String body = """
+                    {"id": "%s", "title": "%s", "description": "Inserted by TaskPatchBenchmarkTest", "status": "pending",
+                     "priority": "mid", "dueDate": "2030-01-01", "creator": %s, "executor": %s}"""
+                    .formatted(taskId, title, USER.formatted(ADMIN_ID, ADMIN_EMAIL), USER.formatted(USER_ID, USER_EMAIL));
+            return new Update(put("/tasks").contentType(MediaType.APPLICATION_JSON).content(body), body);
+        };
+        BiFunction<UUID, String, Update> patch = (taskId, title) -> {
+            String body = "{\"title\": \"%s\"}".formatted(title);
+            return new Update(patch("/tasks/{taskId}", taskId).contentType("application/merge-patch+json").content(body), body);
+        };
+
+        int putBytes = put.apply(tasks[0], "Title 0").body().getBytes(StandardCharsets.UTF_8).length;
+        int patchBytes = patch.apply(tasks[0], "Title 0").body().getBytes(StandardCharsets.UTF_8).length;
+        long putWal = walBytesPerUpdate(authorization, tasks[0], put);
+        long patchWal = walBytesPerUpdate(authorization, tasks[0], patch);
+        Throughput.Result putResult = run(authorization, tasks, put);
+        Throughput.Result patchResult = run(authorization, tasks, patch);
+
+        System.out.printf("PUT   %,5d B payload, %,6d WAL B/update, %s%n", putBytes, putWal, putResult);
+        System.out.printf("PATCH %,5d B payload, %,6d WAL B/update, %s%n", patchBytes, patchWal, patchResult);
+        assertThat(putResult.rejected()).isZero();
+        assertThat(patchResult.rejected()).isZero();
+        // Task uses dynamic updates, so both write the title column only: the WAL volume is printed, not compared
+        assertThat(patchBytes).isLessThan(putBytes / 5);
+    }
+
+    private Throughput.Result run(String authorization, UUID[] tasks, BiFunction<UUID, String, Update> update) {
+        return Throughput.run(THREADS, WARM_UP, DURATION, (thread, iteration) ->
+                perform(authorization, update.apply(tasks[thread], "Title " + iteration)));
+    }
+
+    /**
+     * Runs {@value #WAL_UPDATES} updates of the task one after another and measures the WAL they write.
+     */
+    private long walBytesPerUpdate(String authorization, UUID taskId, BiFunction<UUID, String, Update> update)
+            throws Exception {
+        String start = jdbcTemplate.queryForObject("SELECT pg_current_wal_insert_lsn()::text", String.class);
+        for (int i = 0; i < WAL_UPDATES; i++) {
+            assertThat(perform(authorization, update.apply(taskId, "WAL " + i))).isTrue();
+        }
+        Long bytes = jdbcTemplate.queryForObject("SELECT pg_wal_lsn_diff(pg_current_wal_insert_lsn(), ?::pg_lsn)::bigint",
+                Long.class, start);
+        return bytes / WAL_UPDATES;
+    }
+
+    private boolean perform(String authorization, Update update) throws Exception {
+        return mockMvc.perform(update.request().header(HttpHeaders.AUTHORIZATION, authorization))
+                .andReturn().getResponse().getStatus() == 200;
+    }
+}
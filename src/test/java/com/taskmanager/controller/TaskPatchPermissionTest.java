@@ -0,0 +1,67 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.ResultActions;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskPatchPermissionTest
+ *
+ * {@code PATCH /tasks/{taskId}}: any user may patch the other fields, only admins and the executor of the task
+ * may patch its status or its executor (like {@code PATCH /tasks/{taskId}/status}).
+ */
+class TaskPatchPermissionTest extends PostgresTest {
+
+    private UUID taskId;
+
+    @BeforeEach
+    void insertTask() {
+        taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+    }
+
+    @Test
+    void anyUserPatchesTheTitle() throws Exception {
+        patchAs(OTHER_USER_EMAIL, "{\"title\": \"Patched by another user\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Patched by another user"));
+    }
+
+    @Test
+    void onlyExecutorAndAdminPatchTheStatus() throws Exception {
+        patchAs(OTHER_USER_EMAIL, "{\"status\": \"completed\"}").andExpect(status().isBadRequest());
+        patchAs(OTHER_USER_EMAIL, "{\"title\": \"Sneaky\", \"status\": \"completed\"}").andExpect(status().isBadRequest());
+
+        patchAs(USER_EMAIL, "{\"status\": \"in progress\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("in progress"));
+        patchAs(ADMIN_EMAIL, "{\"status\": \"completed\"}")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("completed"));
+    }
+
+    @Test
+    void onlyExecutorAndAdminPatchTheExecutor() throws Exception {
+        String executor = "{\"executor\": {\"id\": \"%s\"}}".formatted(OTHER_USER_ID);
+
+        patchAs(OTHER_USER_EMAIL, executor).andExpect(status().isBadRequest());
+
+        patchAs(USER_EMAIL, executor)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.executor.id").value(OTHER_USER_ID.toString()));
+    }
+
+    private ResultActions patchAs(String email, String patch) throws Exception {
+        return mockMvc.perform(patch("/tasks/{taskId}", taskId)
+                .header(HttpHeaders.AUTHORIZATION, bearer(email))
+                .contentType("application/merge-patch+json")
+                .content(patch));
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.service.TaskServiceImpl;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskScrollTest
+ *
+ * The {@code /scroll} endpoints only accept slices of 1 to {@link TaskServiceImpl#MAX_SLICE_SIZE} tasks.
+ */
+class TaskScrollTest extends PostgresTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/tasks/all/scroll", "/tasks/by-status/scroll",
+            "/tasks/all/creator/ecf72b35-4151-4439-a5a1-408d2ce330c5/scroll",
+            "/tasks/all/executor/a88589c6-0f3a-47fc-8a43-78f9f9bb78ff/scroll"})
+    void rejectsSlicesOutsideTheBounds(String path) throws Exception {
+        for (String size : new String[]{"0", String.valueOf(TaskServiceImpl.MAX_SLICE_SIZE + 1),
+                String.valueOf(Integer.MAX_VALUE)}) {
+            mockMvc.perform(get(path).param("size", size).header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.description").value("Acceptable page size is 1-100"));
+        }
+        mockMvc.perform(get(path).param("size", String.valueOf(TaskServiceImpl.MAX_SLICE_SIZE))
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(status().isOk());
+    }
+}
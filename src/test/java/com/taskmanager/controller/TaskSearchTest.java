@@ -0,0 +1,107 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import org.hamcrest.Matcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultMatcher;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskSearchTest
+ *
+ * {@code GET /tasks/search}: the web search syntax, the ranking of title matches first, the filters,
+ * and the search vector following the task writes.
+ */
+class TaskSearchTest extends PostgresTest {
+
+    @Test
+    void ranksTitleMatchesFirst() throws Exception {
+        UUID inDescription = insertTask("Weekly report", "Send the quince invoice", TaskStatus.PENDING, USER_ID);
+        UUID inTitle = insertTask("Quince order", "Check the amounts", TaskStatus.PENDING, USER_ID);
+        UUID inBoth = insertTask("Quince reminder", "The quince order is late", TaskStatus.PENDING, USER_ID);
+
+        search("QUINCE").andExpect(ids(contains(ids(inBoth, inTitle, inDescription))))
+                .andExpect(jsonPath("$.totalElements").value(3))
+                .andExpect(jsonPath("$.content[0].executor.email").value(USER_EMAIL));
+    }
+
+    @Test
+    void supportsTheWebSearchSyntax() throws Exception {
+        UUID both = insertTask("Deploy the guava backend", "Release to staging", TaskStatus.PENDING, USER_ID);
+        UUID backend = insertTask("Guava backend tests", "Fix the flaky ones", TaskStatus.PENDING, USER_ID);
+        UUID staging = insertTask("Guava staging database", "Refresh it", TaskStatus.PENDING, USER_ID);
+
+        search("guava backend staging").andExpect(ids(contains(ids(both))));
+        search("\"guava backend tests\"").andExpect(ids(contains(ids(backend))));
+        search("guava -backend").andExpect(ids(contains(ids(staging))));
+        search("guava flaky or guava database").andExpect(ids(containsInAnyOrder(ids(backend, staging))));
+    }
+
+    @Test
+    void filtersByStatusAndExecutor() throws Exception {
+        UUID pending = insertTask("Feijoa audit", "First", TaskStatus.PENDING, USER_ID);
+        UUID completed = insertTask("Feijoa audit", "Second", TaskStatus.COMPLETED, USER_ID);
+        UUID other = insertTask("Feijoa audit", "Third", TaskStatus.PENDING, OTHER_USER_ID);
+
+        search("feijoa", "status", "pending").andExpect(ids(containsInAnyOrder(ids(pending, other))));
+        search("feijoa", "executorId", USER_ID.toString()).andExpect(ids(containsInAnyOrder(ids(pending, completed))));
+    }
+
+    @Test
+    void followsTheTaskWrites() throws Exception {
+        UUID task = insertTask("Kumquat review", null, TaskStatus.PENDING, USER_ID);
+
+        mockMvc.perform(patch("/tasks/{taskId}", task)
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Tamarind review\"}"))
+                .andExpect(status().isOk());
+
+        search("kumquat").andExpect(jsonPath("$.totalElements").value(0));
+        search("tamarind").andExpect(ids(contains(ids(task))));
+    }
+
+    @Test
+    void rejectsABlankQuery() throws Exception {
+        mockMvc.perform(get("/tasks/search").param("q", " ").header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions search(String query, String... params) throws Exception {
+        var request = get("/tasks/search").param("q", query).header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL));
+        for (int i = 0; i < params.length; i += 2) {
+            request.param(params[i], params[i + 1]);
+        }
+        return mockMvc.perform(request).andExpect(status().isOk());
+    }
+
+    private static ResultMatcher ids(Matcher<?> matcher) {
+        return jsonPath("$.content[*].id").value(matcher);
+    }
+
+    private static String[] ids(UUID... ids) {
+        String[] strings = new String[ids.length];
+        for (int i = 0; i < ids.length; i++) strings[i] = ids[i].toString();
+        return strings;
+    }
+
+    private UUID insertTask(String title, String description, TaskStatus status, UUID executorId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tasks (id, title, description, status, priority, id_creator, id_executor, due_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, CURRENT_DATE + 30)",
+                id, title, description, status.getCode(), TaskPriority.MID.getCode(), ADMIN_ID, executorId);
+        return id;
+    }
+}
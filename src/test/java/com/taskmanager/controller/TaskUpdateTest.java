@@ -0,0 +1,75 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskUpdateTest
+ *
+ * {@code PUT /tasks}: the response is the stored task, not the request body,
+ * and an unknown creator or executor is a bad request.
+ */
+class TaskUpdateTest extends PostgresTest {
+
+    private UUID taskId;
+
+    @BeforeEach
+    void insertTask() {
+        taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+    }
+
+    @Test
+    void respondsWithTheStoredUsers() throws Exception {
+        putAs(user(ADMIN_ID, "Forged name", "forged@example.com"), user(OTHER_USER_ID, "Forged name", "forged@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("Updated"))
+                .andExpect(jsonPath("$.creator.email").value(ADMIN_EMAIL))
+                .andExpect(jsonPath("$.executor.id").value(OTHER_USER_ID.toString()))
+                .andExpect(jsonPath("$.executor.email").value(OTHER_USER_EMAIL))
+                .andExpect(jsonPath("$.executor.password").doesNotExist());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT id_executor FROM tasks WHERE id = ?", UUID.class, taskId))
+                .isEqualTo(OTHER_USER_ID);
+    }
+
+    @Test
+    void rejectsAnUnknownCreatorOrExecutor() throws Exception {
+        String unknown = user(UUID.randomUUID(), "Nobody", "nobody@example.com");
+
+        putAs(unknown, user(USER_ID, "Jane", USER_EMAIL))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.description").value("Provided creator doesn't exist"));
+        putAs(user(ADMIN_ID, "John", ADMIN_EMAIL), unknown)
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.description").value("Provided executor doesn't exist"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT id_executor FROM tasks WHERE id = ?", UUID.class, taskId))
+                .isEqualTo(USER_ID);
+    }
+
+    private ResultActions putAs(String creator, String executor) throws Exception {
+        return mockMvc.perform(put("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"id": "%s", "title": "Updated", "description": "Updated by the update test", "status": "pending",
+                         "priority": "high", "dueDate": "2030-01-01", "creator": %s, "executor": %s}"""
+                        .formatted(taskId, creator, executor)));
+    }
+
+    private static String user(UUID id, String fullName, String email) {
+        return """
+                {"id": "%s", "fullName": "%s", "email": "%s", "role": "USER"}""".formatted(id, fullName, email);
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanager.entity.id;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.PostgresTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import java.sql.Array;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TimeOrderedUuidBenchmarkTest
+ *
+ * Primary key index behaviour of {@link TimeOrderedUuidGenerator} (version 7) ids against random (version 4) ids
+ * ({@code mvn test -Pbenchmark}): {@value #ROWS} rows are inserted in batches of {@value #BATCH} into a table
+ * keyed by each kind of id, measuring the insert rate, the final size of the primary key index, and the number of
+ * pages one more batch dirties (its locality: time-ordered ids land on the right-most leaf pages only).
+ */
+@Tag("benchmark")
+class TimeOrderedUuidBenchmarkTest extends PostgresTest {
+
+    private static final int ROWS = 500_000;
+    private static final int BATCH = 1000;
+    private static final String INSERT = "INSERT INTO %s (id, filler) SELECT id, 'benchmark row' FROM unnest(?::uuid[]) AS id";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * The measurement of one kind of id.
+     */
+    private record Result(double rowsPerSecond, long indexBytes, long dirtiedPagesPerBatch) {
+
+        @Override
+        public String toString() {
+            return String.format("%,10.0f rows/s, pkey index %,6d kB, %,5d pages dirtied by a batch of %d",
+                    rowsPerSecond, indexBytes / 1024, dirtiedPagesPerBatch, BATCH);
+        }
+    }
+
+    @AfterEach
+    void dropTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS uuid_benchmark_v7, uuid_benchmark_v4");
+    }
+
+    @Test
+    void timeOrderedIdsKeepTheIndexCompactAndLocal() throws Exception {
+        Result v7 = run("uuid_benchmark_v7", TimeOrderedUuidGenerator::next);
+        Result v4 = run("uuid_benchmark_v4", UUID::randomUUID);
+        System.out.printf("v7 (time-ordered) %s%n", v7);
+        System.out.printf("v4 (random)       %s%n", v4);
+
+        // Appending keeps the leaf pages full, random ids split them half-way
+        assertThat(v7.indexBytes()).isLessThan(v4.indexBytes());
+        assertThat(v7.dirtiedPagesPerBatch()).isLessThan(v4.dirtiedPagesPerBatch() / 10);
+    }
+
+    private Result run(String table, Supplier<UUID> ids) throws Exception {
+        jdbcTemplate.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, filler text NOT NULL)");
+        String insert = INSERT.formatted(table);
+
+        long begin = System.nanoTime();
+        for (int inserted = 0; inserted < ROWS; inserted += BATCH) {
+            jdbcTemplate.update(insert, batch(ids));
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        Long indexBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size(?::regclass)", Long.class, table + "_pkey");
+
+        // After a checkpoint every page is clean, so the pages dirtied by the batch are the distinct pages it writes
+        jdbcTemplate.execute("CHECKPOINT");
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + insert, String.class, batch(ids));
+        JsonNode root = objectMapper.readTree(plan).get(0).get("Plan");
+        return new Result(ROWS / seconds, indexBytes, root.get("Shared Dirtied Blocks").asLong());
+    }
+
+    private Array batch(Supplier<UUID> ids) {
+        UUID[] batch = new UUID[BATCH];
+        for (int i = 0; i < BATCH; i++) batch[i] = ids.get();
+        return jdbcTemplate.execute((ConnectionCallback<Array>) connection -> connection.createArrayOf("uuid", batch));
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskmanager.mapper;
+
+import com.taskmanager.config.Role;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.projection.TaskView;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.entity.User;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class TaskMapperBenchmark
+ *
+ * JMH benchmark of the mapping of one page of tasks to {@link TaskDto}:
+ * the hand-written {@link TaskMapper} (from entities and from {@link TaskView} projections)
+ * against the reflective {@link ModelMapper} it replaced. Run by {@link TaskMapperBenchmarkTest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int pageSize;
+
+    private List<Task> tasks;
+    private List<TaskView> views;
+    private ModelMapper modelMapper;
+
+    @Setup
+    public void setUp() {
+        User creator = user("creator@example.com", Role.ADMIN);
+        User executor = user("executor@example.com", Role.USER);
+        tasks = new ArrayList<>(pageSize);
+        views = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Task task = task(i, creator, executor);
+            tasks.add(task);
+            views.add(view(task));
+        }
+        modelMapper = new ModelMapper();
+        // The first map call builds the type map: keep it out of the measurement
+        modelMapper.map(tasks.get(0), TaskDto.class);
+    }
+
+    @Benchmark
+    public List<TaskDto> handWrittenFromEntities() {
+        List<TaskDto> page = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            page.add(TaskMapper.toDto(task));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<TaskDto> handWrittenFromViews() {
+        List<TaskDto> page = new ArrayList<>(views.size());
+        for (TaskView view : views) {
+            page.add(TaskMapper.toDto(view));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<TaskDto> modelMapperFromEntities() {
+        List<TaskDto> page = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            page.add(modelMapper.map(task, TaskDto.class));
+        }
+        return page;
+    }
+
+    static User user(String email, Role role) {
+        return User.builder()
+                .id(UUID.randomUUID())
+                .fullName("Full name of " + email)
+                .email(email)
+                .password("password")
+                .role(role)
+                .build();
+    }
+
+    static Task task(int i, User creator, User executor) {
+        return Task.builder()
+                .id(UUID.randomUUID())
+                .title("Task " + i)
+                .description("Description of task " + i)
+                .status(TaskStatus.values()[i % TaskStatus.values().length])
+                .priority(TaskPriority.values()[i % TaskPriority.values().length])
+                .dueDate(LocalDate.of(2030, 1, 1).plusDays(i))
+                .creator(creator)
+                .executor(executor)
+                .version(0L)
+                .build();
+    }
+
+    static TaskView view(Task task) {
+        User creator = task.getCreator();
+        User executor = task.getExecutor();
+        return new TaskView(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                task.getPriority(), task.getDueDate(),
+                creator.getId(), creator.getFullName(), creator.getEmail(), creator.getRole(),
+                executor.getId(), executor.getFullName(), executor.getEmail(), executor.getRole(),
+                task.getVersion());
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskmanager.mapper;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskMapperBenchmarkTest
+ *
+ * Runs {@link TaskMapperBenchmark} ({@code mvn test -Pbenchmark}) and checks that the hand-written
+ * mapper is faster than the {@code ModelMapper} baseline for every page size.
+ */
+@Tag("benchmark")
+class TaskMapperBenchmarkTest {
+
+    @Test
+    void handWrittenMapperIsFasterThanModelMapper() throws RunnerException {
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(TaskMapperBenchmark.class.getName())
+                .build()).run();
+
+        // Average time (µs) per page, by page size and benchmark method
+        Map<String, Map<String, Double>> scores = new HashMap<>();
+        for (RunResult result : results) {
+            String pageSize = result.getParams().getParam("pageSize");
+            String method = result.getParams().getBenchmark().substring(TaskMapperBenchmark.class.getName().length() + 1);
+            scores.computeIfAbsent(pageSize, size -> new HashMap<>()).put(method, result.getPrimaryResult().getScore());
+        }
+
+        assertThat(scores).containsOnlyKeys("1", "100", "1000");
+        scores.forEach((pageSize, byMethod) -> {
+            assertThat(byMethod.get("handWrittenFromEntities"))
+                    .as("entities, page of %s", pageSize)
+                    .isLessThan(byMethod.get("modelMapperFromEntities"));
+            assertThat(byMethod.get("handWrittenFromViews"))
+                    .as("projections, page of %s", pageSize)
+                    .isLessThan(byMethod.get("modelMapperFromEntities"));
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.taskmanager.mapper;
+
+import com.taskmanager.config.Role;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.entity.Task;
+import com.taskmanager.entity.User;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskMapperTest
+ *
+ * Checks that {@link TaskMapper} builds the same {@link TaskDto} as the {@link ModelMapper} baseline of
+ * {@link TaskMapperBenchmark} (so the benchmark compares the same work), except for the user passwords,
+ * which are never exposed.
+ */
+class TaskMapperTest {
+
+    private final User creator = TaskMapperBenchmark.user("creator@example.com", Role.ADMIN);
+    private final User executor = TaskMapperBenchmark.user("executor@example.com", Role.USER);
+    private final Task task = TaskMapperBenchmark.task(7, creator, executor);
+
+    @Test
+    void entityIsMappedLikeModelMapperWithoutPasswords() {
+        TaskDto expected = new ModelMapper().map(task, TaskDto.class);
+
+        TaskDto taskDto = TaskMapper.toDto(task);
+
+        assertThat(taskDto).usingRecursiveComparison()
+                .ignoringFields("creator.password", "executor.password")
+                .isEqualTo(expected);
+        assertThat(taskDto.getCreator().getPassword()).isNull();
+        assertThat(taskDto.getExecutor().getPassword()).isNull();
+    }
+
+    @Test
+    void viewIsMappedLikeEntity() {
+        TaskDto fromView = TaskMapper.toDto(TaskMapperBenchmark.view(task));
+
+        assertThat(fromView).usingRecursiveComparison().isEqualTo(TaskMapper.toDto(task));
+    }
+}
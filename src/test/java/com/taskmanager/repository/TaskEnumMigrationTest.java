@@ -0,0 +1,100 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Class TaskEnumMigrationTest
+ *
+ * {@code V7__store_task_enums_as_smallint}: the status and priority strings of the existing tasks become the codes
+ * of {@link TaskStatus} and {@link TaskPriority}, and an unknown string makes the migration fail. The migrations
+ * run in a schema of their own, on the embedded server of {@link PostgresTest}.
+ */
+class TaskEnumMigrationTest {
+
+    private static final String SCHEMA = "enum_migration";
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(PostgresTest.jdbcUrl());
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+
+    @BeforeEach
+    void migrateToV6() {
+        flyway("6").migrate();
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".users (id, full_name, email, \"password\", \"role\") "
+                + "VALUES (?, 'Migrated user', 'migrated@example.com', 'password', 'USER')", USER_ID);
+    }
+
+    @AfterEach
+    void dropSchema() {
+        jdbcTemplate.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+    }
+
+    @Test
+    void convertsTheStringsToCodes() {
+        Map<UUID, String[]> tasks = Map.of(
+                insertTask("pending", "low"), new String[]{"pending", "low"},
+                insertTask("in progress", "mid"), new String[]{"in progress", "mid"},
+                insertTask("completed", "high"), new String[]{"completed", "high"});
+
+        flyway("7").migrate();
+
+        tasks.forEach((id, values) -> {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT status, priority FROM " + SCHEMA + ".tasks WHERE id = ?", id);
+            assertThat(row.get("status")).isEqualTo((int) TaskStatus.fromValue(values[0]).getCode());
+            assertThat(row.get("priority")).isEqualTo((int) TaskPriority.fromValue(values[1]).getCode());
+        });
+        assertThat(columnType("status")).isEqualTo("smallint");
+        assertThat(columnType("priority")).isEqualTo("smallint");
+    }
+
+    @Test
+    void failsOnAnUnknownString() {
+        insertTask("pending", "mid");
+        insertTask("done", "mid");
+
+        assertThatThrownBy(() -> flyway("7").migrate())
+                .isInstanceOf(FlywayException.class)
+                .hasMessageContaining("contains null values");
+
+        assertThat(columnType("status")).isEqualTo("character varying");
+        assertThat(jdbcTemplate.queryForList("SELECT status FROM " + SCHEMA + ".tasks ORDER BY status", String.class))
+                .containsExactly("done", "pending");
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .schemas(SCHEMA)
+                .defaultSchema(SCHEMA)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load();
+    }
+
+    private UUID insertTask(String status, String priority) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO " + SCHEMA + ".tasks (id, title, status, priority, id_creator, id_executor) "
+                + "VALUES (?, 'Migrated task', ?, ?, ?, ?)", id, status, priority, USER_ID, USER_ID);
+        return id;
+    }
+
+    private String columnType(String column) {
+        return jdbcTemplate.queryForObject("SELECT data_type FROM information_schema.columns "
+                + "WHERE table_schema = ? AND table_name = 'tasks' AND column_name = ?", String.class, SCHEMA, column);
+    }
+}
@@ -0,0 +1,112 @@
+package com.taskmanager.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskIndexUsageTest
+ *
+ * Checks with {@code EXPLAIN} that the filtered and sorted task queries read the tasks through the
+ * access-path indexes ({@code V2__add_access_path_indexes.sql} and {@code V6__add_due_date_index.sql}),
+ * in index order: no sequential scan of the tasks and no sort.
+ * The queries are the SQL of the {@link TaskRepository} projections; they run on 20 000 generated tasks,
+ * inserted and analyzed in the test transaction, which is rolled back.
+ */
+@Transactional
+class TaskIndexUsageTest extends PostgresTest {
+
+    private static final String TASK_VIEW = "SELECT t.id, t.title, t.description, t.status, t.priority, t.due_date, "
+            + "c.id, c.full_name, c.email, c.role, e.id, e.full_name, e.email, e.role, t.version "
+            + "FROM tasks t JOIN users c ON c.id = t.id_creator JOIN users e ON e.id = t.id_executor";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void generateTasks() {
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, title, description, status, priority, id_creator, id_executor, due_date)
+                SELECT gen_random_uuid(), 'Task ' || i, 'Generated task ' || i, i % 3, i % 3,
+                       u.ids[1 + i % 5], u.ids[1 + (i / 5) % 5], DATE '2024-01-01' + i % 1000
+                FROM generate_series(1, 20000) i,
+                     (SELECT array_agg(id ORDER BY email) AS ids FROM users) u""");
+        jdbcTemplate.execute("ANALYZE tasks");
+    }
+
+    @Test
+    void statusPageUsesStatusIndex() {
+        assertIndexOrder("task_status_id_idx",
+                TASK_VIEW + " WHERE t.status = ? ORDER BY t.id LIMIT 20 OFFSET 40", TaskStatus.PENDING.getCode());
+    }
+
+    @Test
+    void statusSliceUsesStatusIndex() {
+        assertIndexOrder("task_status_id_idx",
+                TASK_VIEW + " WHERE t.status = ? AND t.id > ? ORDER BY t.id LIMIT 21",
+                TaskStatus.COMPLETED.getCode(), UUID.fromString("80000000-0000-0000-0000-000000000000"));
+    }
+
+    @Test
+    void creatorPageUsesCreatorIndex() {
+        assertIndexOrder("task_creator_id_idx",
+                TASK_VIEW + " WHERE t.id_creator = ? ORDER BY t.id LIMIT 20 OFFSET 40", ADMIN_ID);
+    }
+
+    @Test
+    void executorSliceUsesExecutorIndex() {
+        assertIndexOrder("task_executor_id_idx",
+                TASK_VIEW + " WHERE t.id_executor = ? AND t.id > ? ORDER BY t.id LIMIT 21",
+                USER_ID, UUID.fromString("80000000-0000-0000-0000-000000000000"));
+    }
+
+    @Test
+    void dueDateSortUsesDueDateIndex() {
+        assertIndexOrder("task_due_date_id_idx",
+                TASK_VIEW + " ORDER BY t.due_date, t.id LIMIT 20");
+        assertIndexOrder("task_due_date_id_idx",
+                TASK_VIEW + " ORDER BY t.due_date DESC, t.id DESC LIMIT 20");
+    }
+
+    @Test
+    void dueDateRangeUsesDueDateIndex() {
+        assertIndexOrder("task_due_date_id_idx",
+                TASK_VIEW + " WHERE t.due_date >= ? AND t.due_date <= ? ORDER BY t.due_date, t.id LIMIT 20",
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 6, 30));
+    }
+
+    /**
+     * Explains the query and checks that the tasks are read with the index, without sequential scan or sort.
+     */
+    private void assertIndexOrder(String index, String sql, Object... parameters) {
+        String json = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, parameters);
+        List<JsonNode> nodes = new ArrayList<>();
+        try {
+            collectNodes(objectMapper.readTree(json).get(0).get("Plan"), nodes);
+        } catch (Exception e) {
+            throw new AssertionError("Unreadable plan: " + json, e);
+        }
+
+        assertThat(nodes).as(json)
+                .anyMatch(node -> index.equals(node.path("Index Name").asText()))
+                .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText())
+                        && "tasks".equals(node.path("Relation Name").asText()))
+                .noneMatch(node -> node.path("Node Type").asText().contains("Sort"));
+    }
+
+    private static void collectNodes(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        node.path("Plans").forEach(child -> collectNodes(child, nodes));
+    }
+}
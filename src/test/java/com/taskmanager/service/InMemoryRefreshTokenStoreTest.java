@@ -0,0 +1,96 @@
+package com.taskmanager.service;
+
+import com.taskmanager.config.jwt.JwtProvider;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class InMemoryRefreshTokenStoreTest
+ *
+ * Atomicity and expiration of the {@link InMemoryRefreshTokenStore} sessions.
+ */
+class InMemoryRefreshTokenStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(InMemoryRefreshTokenStore.STRIPES, now::get);
+
+    @Test
+    void loginIsRefusedWhileSessionIsOpen() {
+        assertThat(store.putIfAbsent("user@example.com", "token-1")).isTrue();
+        assertThat(store.putIfAbsent("user@example.com", "token-2")).isFalse();
+        assertThat(store.contains("user@example.com")).isTrue();
+        assertThat(store.contains("other@example.com")).isFalse();
+    }
+
+    @Test
+    void onlyTheCurrentTokenIsReplacedOrRemoved() {
+        store.putIfAbsent("user@example.com", "token-1");
+
+        assertThat(store.replace("user@example.com", "stale", "token-2")).isFalse();
+        assertThat(store.replace("user@example.com", "token-1", "token-2")).isTrue();
+        assertThat(store.remove("user@example.com", "token-1")).isFalse();
+        assertThat(store.remove("user@example.com", "token-2")).isTrue();
+        assertThat(store.contains("user@example.com")).isFalse();
+    }
+
+    @Test
+    void consumedTokenKeepsSessionUntilItExpires() {
+        store.putIfAbsent("user@example.com", "token-1");
+
+        assertThat(store.replace("user@example.com", "token-1", null)).isTrue();
+        assertThat(store.replace("user@example.com", "token-1", null)).isFalse();
+        assertThat(store.contains("user@example.com")).isTrue();
+    }
+
+    @Test
+    void expiredSessionsAreIgnoredThenEvicted() {
+        store.putIfAbsent("user@example.com", "token-1");
+        now.addAndGet(JwtProvider.REFRESH_EXPIRATION_MS);
+
+        assertThat(store.contains("user@example.com")).isFalse();
+        assertThat(store.replace("user@example.com", "token-1", "token-2")).isFalse();
+        assertThat(store.size()).isEqualTo(1);
+
+        store.evictExpired();
+        assertThat(store.size()).isZero();
+        assertThat(store.putIfAbsent("user@example.com", "token-3")).isTrue();
+    }
+
+    @Test
+    void concurrentRefreshesOfOneTokenRotateItOnce() throws Exception {
+        int threads = 16;
+        store.putIfAbsent("user@example.com", "token-0");
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Boolean>> refreshes = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            String newToken = "token-" + (i + 1);
+            refreshes.add(() -> {
+                start.await();
+                return store.replace("user@example.com", "token-0", newToken);
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            refreshes.forEach(refresh -> results.add(executor.submit(refresh)));
+            start.countDown();
+            int rotated = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get()) rotated++;
+            }
+            assertThat(rotated).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskmanager.service;
+
+import com.taskmanager.PostgresTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class JdbcRefreshTokenStoreTest
+ *
+ * Sessions shared through the {@code refresh_tokens} table by two {@link JdbcRefreshTokenStore}
+ * instances, standing for two application instances.
+ */
+class JdbcRefreshTokenStoreTest extends PostgresTest {
+
+    private final String login = "user-" + UUID.randomUUID() + "@example.com";
+
+    @Test
+    void sessionIsSharedByInstances() {
+        JdbcRefreshTokenStore first = store(0);
+        JdbcRefreshTokenStore second = store(0);
+
+        assertThat(first.putIfAbsent(login, "token-1")).isTrue();
+        assertThat(second.putIfAbsent(login, "token-2")).isFalse();
+        assertThat(second.replace(login, "token-1", "token-2")).isTrue();
+        assertThat(first.replace(login, "token-1", "token-3")).isFalse();
+        assertThat(first.remove(login, "token-2")).isTrue();
+        assertThat(second.contains(login)).isFalse();
+    }
+
+    @Test
+    void loggedInCheckIsCachedUntilLocalLogoutOrDelay() {
+        JdbcRefreshTokenStore first = store(60_000);
+        JdbcRefreshTokenStore second = store(60_000);
+        JdbcRefreshTokenStore uncached = store(0);
+        first.putIfAbsent(login, "token-1");
+        assertThat(first.contains(login)).isTrue();
+        assertThat(second.contains(login)).isTrue();
+
+        assertThat(first.remove(login, "token-1")).isTrue();
+
+        // The instance serving the logout sees it at once, the others once their cached check expires
+        assertThat(first.contains(login)).isFalse();
+        assertThat(second.contains(login)).isTrue();
+        assertThat(uncached.contains(login)).isFalse();
+    }
+
+    @Test
+    void loggedOutCheckIsNotCached() {
+        JdbcRefreshTokenStore first = store(60_000);
+        JdbcRefreshTokenStore second = store(60_000);
+        assertThat(second.contains(login)).isFalse();
+
+        first.putIfAbsent(login, "token-1");
+
+        assertThat(second.contains(login)).isTrue();
+    }
+
+    private JdbcRefreshTokenStore store(long sessionCacheMs) {
+        return new JdbcRefreshTokenStore(jdbcTemplate, new SimpleMeterRegistry(), sessionCacheMs, 1000);
+    }
+}
@@ -0,0 +1,76 @@
+package com.taskmanager.service;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.Throughput;
+import com.taskmanager.service.interfaces.RefreshTokenStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class RefreshTokenStoreBenchmarkTest
+ *
+ * Throughput of the {@link RefreshTokenStore} implementations under contention ({@code mvn test -Pbenchmark}):
+ * {@value #THREADS} threads share {@value #USERS} sessions; 90% of the operations are the logged-in check run
+ * on every request, 10% are refresh token rotations. The striped {@link InMemoryRefreshTokenStore} is compared
+ * with the same store on a single stripe (one lock for all the sessions), and the {@link JdbcRefreshTokenStore}
+ * with and without its logged-in check cache.
+ */
+@Tag("benchmark")
+class RefreshTokenStoreBenchmarkTest extends PostgresTest {
+
+    private static final int THREADS = 8;
+    private static final int USERS = 1000;
+    private static final Duration WARM_UP = Duration.ofSeconds(2);
+    private static final Duration DURATION = Duration.ofSeconds(5);
+
+    @Test
+    void storesUnderContention() {
+        Map<String, Throughput.Result> results = new LinkedHashMap<>();
+        results.put("memory, striped", run(new InMemoryRefreshTokenStore()));
+        results.put("memory, single lock", run(new InMemoryRefreshTokenStore(1, System::currentTimeMillis)));
+        results.put("jdbc, cached check", run(new JdbcRefreshTokenStore(jdbcTemplate, new SimpleMeterRegistry(), 5000, USERS)));
+        results.put("jdbc, uncached check", run(new JdbcRefreshTokenStore(jdbcTemplate, new SimpleMeterRegistry(), 0, USERS)));
+        results.forEach((store, result) -> System.out.printf("%-22s %s%n", store, result));
+
+        // Every rotation uses the current token of its session, so none may be rejected
+        results.forEach((store, result) -> assertThat(result.rejected()).as(store).isZero());
+        assertThat(results.get("memory, striped").perSecond())
+                .isGreaterThan(results.get("jdbc, cached check").perSecond());
+        assertThat(results.get("jdbc, cached check").perSecond())
+                .isGreaterThan(results.get("jdbc, uncached check").perSecond());
+    }
+
+    /**
+     * Opens the sessions, then runs the workload. The sessions of a user are rotated by a single thread
+     * (the owner of the user), which therefore always knows the current token.
+     */
+    private Throughput.Result run(RefreshTokenStore store) {
+        String prefix = UUID.randomUUID() + "-";
+        String[] logins = new String[USERS];
+        String[] tokens = new String[USERS];
+        for (int u = 0; u < USERS; u++) {
+            logins[u] = prefix + u + "@example.com";
+            tokens[u] = "token-" + u + "-0";
+            store.putIfAbsent(logins[u], tokens[u]);
+        }
+        return Throughput.run(THREADS, WARM_UP, DURATION, (thread, iteration) -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            if (iteration % 10 != 9) {
+                return store.contains(logins[random.nextInt(USERS)]);
+            }
+            int user = thread + THREADS * random.nextInt(USERS / THREADS);
+            String newToken = "token-" + user + "-" + iteration;
+            if (!store.replace(logins[user], tokens[user], newToken)) return false;
+            tokens[user] = newToken;
+            return true;
+        });
+    }
+}
@@ -0,0 +1,143 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskEventDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskEventBusTest
+ *
+ * Thousands of concurrent {@code GET /tasks/stream} subscribers: the fast ones get every event, the stalled ones
+ * are disconnected after a whole buffer of dropped events, and the buffered events never exceed one buffer
+ * per subscriber.
+ */
+class TaskEventBusTest {
+
+    private static final int BUFFER_SIZE = 16;
+    private static final int SUBSCRIBERS = 2_000;
+    /**
+     * Events published between two checks of the fast subscribers, less than a buffer.
+     */
+    private static final int ROUND = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TaskEventBus bus = new TaskEventBus(meterRegistry, BUFFER_SIZE, 60_000);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * An emitter counting the events sent to it, optionally stalled until the end of the test
+     * like a client that stopped reading.
+     */
+    private final class RecordingEmitter extends SseEmitter {
+
+        private final boolean stalled;
+        private final AtomicInteger events = new AtomicInteger();
+        private volatile boolean completed;
+
+        RecordingEmitter(boolean stalled) {
+            this.stalled = stalled;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (stalled) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            events.incrementAndGet();
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    @AfterEach
+    void shutdown() {
+        release.countDown();
+        bus.shutdown();
+    }
+
+    @Test
+    void thousandsOfSubscribersGetEveryEvent() throws InterruptedException {
+        List<RecordingEmitter> emitters = subscribe(5 * SUBSCRIBERS, false);
+
+        for (int published = ROUND; published <= 20 * ROUND; published += ROUND) {
+            publish(ROUND);
+            int expected = published;
+            awaitUntil(() -> emitters.stream().allMatch(emitter -> emitter.events.get() == expected));
+        }
+
+        assertThat(meterRegistry.get("tasks.events.subscribers").gauge().value()).isEqualTo(5 * SUBSCRIBERS);
+        assertThat(meterRegistry.get("tasks.events.dropped").counter().count()).isZero();
+        assertThat(bus.bufferedEvents()).isZero();
+    }
+
+    @Test
+    void stalledSubscribersAreDisconnectedWithinBoundedMemory() throws InterruptedException {
+        List<RecordingEmitter> fast = subscribe(SUBSCRIBERS, false);
+        List<RecordingEmitter> stalled = subscribe(SUBSCRIBERS, true);
+
+        // One event in the stalled send, a full buffer, then a whole buffer of dropped events
+        int events = 5 * ROUND;
+        for (int published = ROUND; published <= events; published += ROUND) {
+            publish(ROUND);
+            assertThat(bus.bufferedEvents()).isLessThanOrEqualTo(2 * SUBSCRIBERS * BUFFER_SIZE);
+            int expected = published;
+            awaitUntil(() -> fast.stream().allMatch(emitter -> emitter.events.get() == expected));
+        }
+        awaitUntil(() -> stalled.stream().allMatch(emitter -> emitter.completed));
+
+        assertThat(meterRegistry.get("tasks.events.disconnected").counter().count()).isEqualTo(SUBSCRIBERS);
+        assertThat(meterRegistry.get("tasks.events.dropped").counter().count())
+                .isEqualTo(SUBSCRIBERS * BUFFER_SIZE);
+        assertThat(meterRegistry.get("tasks.events.subscribers").gauge().value()).isEqualTo(SUBSCRIBERS);
+        assertThat(fast).noneMatch(emitter -> emitter.completed);
+        assertThat(bus.bufferedEvents()).isZero();
+
+        // The disconnected subscribers get nothing more, even once their client reads again
+        release.countDown();
+        publish(ROUND);
+        awaitUntil(() -> fast.stream().allMatch(emitter -> emitter.events.get() == events + ROUND));
+        assertThat(stalled).allMatch(emitter -> emitter.events.get() <= 1);
+    }
+
+    private List<RecordingEmitter> subscribe(int count, boolean stalled) {
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            RecordingEmitter emitter = new RecordingEmitter(stalled);
+            bus.subscribe(emitter, null, null);
+            emitters.add(emitter);
+        }
+        return emitters;
+    }
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            bus.publish(TaskEventDto.deleted(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID()));
+        }
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition met within 30 s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+}
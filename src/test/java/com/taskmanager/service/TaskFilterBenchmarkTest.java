@@ -0,0 +1,154 @@
+package com.taskmanager.service;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.dto.TaskFilterDto;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.service.interfaces.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskFilterBenchmarkTest
+ *
+ * Latency of one page of {@code GET /tasks} filtered by every combination of the criteria, at {@value #ROWS} tasks
+ * ({@code mvn test -Pbenchmark}), sorted by id and by due date. The tasks have a random status, priority,
+ * creator and executor (out of 3 users) and are due on one of {@value #DAYS} days; the due date criterion
+ * selects {@value #RANGE_DAYS} of them. Every page is measured as a slice (the default) and with the count
+ * of the matching tasks ({@code withTotal=true}).
+ */
+@Tag("benchmark")
+class TaskFilterBenchmarkTest extends PostgresTest {
+
+    private static final int ROWS = 5_000_000;
+    private static final int BATCH_ROWS = 1_000_000;
+    private static final int DAYS = 1000;
+    private static final int RANGE_DAYS = 30;
+    private static final int WARM_UP = 1;
+    private static final int RUNS = 5;
+    /**
+     * The bound of the median latency of a slice, which reads a page of the index without counting.
+     */
+    private static final int SLICE_P50_MILLIS = 100;
+    /**
+     * The first due date of the benchmark tasks, deleted afterwards.
+     */
+    private static final LocalDate FIRST_DUE_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate DUE_FROM = FIRST_DUE_DATE.plusDays(500);
+    private static final LocalDate DUE_TO = DUE_FROM.plusDays(RANGE_DAYS - 1);
+
+    @Autowired
+    private TaskService taskService;
+
+    /**
+     * The latencies of one combination, in milliseconds.
+     */
+    private record Result(long matches, double p50, double p99) {
+
+        @Override
+        public String toString() {
+            return String.format("p50 %8.2f ms  p99 %8.2f ms", p50, p99);
+        }
+    }
+
+    @AfterEach
+    void deleteTasks() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE due_date < ?", FIRST_DUE_DATE.plusDays(DAYS));
+    }
+
+    @Test
+    void everyCombinationOfCriteria() {
+        for (int inserted = 0; inserted < ROWS; inserted += BATCH_ROWS) {
+            jdbcTemplate.update("""
+                    INSERT INTO tasks (id, title, description, status, priority, id_creator, id_executor, due_date)
+                    SELECT gen_random_uuid(), 'Task ' || i, 'Filter benchmark task',
+                           floor(random() * 3), floor(random() * 3),
+                           (ARRAY[?, ?, ?]::uuid[])[floor(random() * 3) + 1],
+                           (ARRAY[?, ?, ?]::uuid[])[floor(random() * 3) + 1],
+                           ?::date + floor(random() * ?)::int
+                    FROM generate_series(1, ?) AS i""",
+                    ADMIN_ID, USER_ID, OTHER_USER_ID, ADMIN_ID, USER_ID, OTHER_USER_ID,
+                    FIRST_DUE_DATE, DAYS, BATCH_ROWS);
+        }
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        for (Sort sort : List.of(Sort.by("id"), Sort.by("dueDate"))) {
+            for (int criteria = 0; criteria < 1 << 5; criteria++) {
+                TaskFilterDto filter = new TaskFilterDto(
+                        (criteria & 1) != 0 ? TaskStatus.PENDING : null,
+                        (criteria & 2) != 0 ? TaskPriority.HIGH : null,
+                        (criteria & 4) != 0 ? ADMIN_ID : null,
+                        (criteria & 8) != 0 ? USER_ID : null,
+                        (criteria & 16) != 0 ? DUE_FROM : null,
+                        (criteria & 16) != 0 ? DUE_TO : null);
+                Pageable pageable = PageRequest.of(0, 20, sort);
+                Result slice = measure(filter, pageable, false);
+                Result page = measure(filter, pageable, true);
+                System.out.printf("%-45s %-7s %,9d matches  slice %s  with total %s%n",
+                        label(filter), sort.iterator().next().getProperty(), page.matches(), slice, page);
+
+                assertThat(page.matches()).as(label(filter)).isPositive();
+                assertThat(slice.p50()).as(label(filter)).isLessThan(SLICE_P50_MILLIS);
+            }
+        }
+    }
+
+    private Result measure(TaskFilterDto filter, Pageable pageable, boolean withTotal) {
+        Slice<TaskDto> slice = null;
+        for (int i = 0; i < WARM_UP; i++) {
+            slice = taskService.findAll(filter, pageable, withTotal);
+        }
+        assertMatches(slice.getContent(), filter, pageable.getSort());
+        assertThat(slice.hasNext()).isTrue();
+        double[] millis = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long begin = System.nanoTime();
+            taskService.findAll(filter, pageable, withTotal);
+            millis[i] = (System.nanoTime() - begin) / 1e6;
+        }
+        Arrays.sort(millis);
+        long matches = slice instanceof Page<TaskDto> page ? page.getTotalElements() : -1;
+        return new Result(matches, millis[RUNS / 2], millis[RUNS - 1]);
+    }
+
+    /**
+     * Every task of the page matches the filter, in the requested order.
+     */
+    private static void assertMatches(List<TaskDto> tasks, TaskFilterDto filter, Sort sort) {
+        assertThat(tasks).hasSize(20).allSatisfy(task -> {
+            if (filter.status() != null) assertThat(task.getStatus()).isEqualTo(filter.status());
+            if (filter.priority() != null) assertThat(task.getPriority()).isEqualTo(filter.priority());
+            if (filter.creatorId() != null) assertThat(task.getCreator().getId()).isEqualTo(filter.creatorId());
+            if (filter.executorId() != null) assertThat(task.getExecutor().getId()).isEqualTo(filter.executorId());
+            if (filter.dueFrom() != null) assertThat(task.getDueDate()).isBetween(filter.dueFrom(), filter.dueTo());
+        });
+        if (sort.getOrderFor("dueDate") != null) {
+            assertThat(tasks).isSortedAccordingTo(Comparator.comparing(TaskDto::getDueDate));
+        }
+    }
+
+    private static String label(TaskFilterDto filter) {
+        List<String> criteria = new ArrayList<>();
+        if (filter.status() != null) criteria.add("status");
+        if (filter.priority() != null) criteria.add("priority");
+        if (filter.creatorId() != null) criteria.add("creator");
+        if (filter.executorId() != null) criteria.add("executor");
+        if (filter.dueFrom() != null) criteria.add("due");
+        return criteria.isEmpty() ? "(none)" : String.join("+", criteria);
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.taskmanager.config.Role;
+import com.taskmanager.config.jwt.JwtAuthentication;
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.dto.TaskImportErrorDto;
+import com.taskmanager.dto.TaskImportResultDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskImportH2Test
+ *
+ * Task import on a database without {@code COPY} (H2): the rows are staged with JDBC batches.
+ */
+class TaskImportH2Test {
+
+    private static final UUID ADMIN_ID = UUID.randomUUID();
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private SingleConnectionDataSource dataSource;
+    private ValidatorFactory validatorFactory;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private TaskImportServiceImpl service;
+
+    @BeforeEach
+    void createDatabase() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:task-import;MODE=PostgreSQL", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id UUID PRIMARY KEY, email VARCHAR NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE tasks (id UUID PRIMARY KEY, title VARCHAR NOT NULL, description VARCHAR, "
+                + "status SMALLINT NOT NULL, priority SMALLINT NOT NULL, due_date DATE, "
+                + "id_creator UUID NOT NULL REFERENCES users (id), id_executor UUID NOT NULL REFERENCES users (id))");
+        jdbcTemplate.update("INSERT INTO users (id, email) VALUES (?, ?), (?, ?)",
+                ADMIN_ID, "admin@example.com", USER_ID, "user@example.com");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        service = new TaskImportServiceImpl(jdbcTemplate, new ObjectMapper().registerModule(new JavaTimeModule()),
+                validatorFactory.getValidator(), new SimpleMeterRegistry(), event -> {
+        });
+
+        JwtAuthentication authentication = new JwtAuthentication();
+        authentication.setUserId(ADMIN_ID);
+        authentication.setEmail("admin@example.com");
+        authentication.setRole(Role.ADMIN);
+        authentication.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        SecurityContextHolder.clearContext();
+        validatorFactory.close();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    void stagesWithBatchesAndReportsUnknownExecutors() {
+        StringBuilder body = new StringBuilder("title,description,status,priority,dueDate,executorEmail\n");
+        for (int i = 0; i < 2500; i++) {
+            body.append("Task ").append(i).append(",\"Imported, from H2\",pending,low,2030-01-01,user@example.com\n");
+        }
+        body.append("Orphan,,pending,low,,nobody@example.com\n");
+        body.append(",,pending,low,,\n");
+
+        TaskImportResultDto result = transactionTemplate.execute(status -> service.importTasks(TaskFileFormat.CSV,
+                new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(result.imported()).isEqualTo(2500);
+        assertThat(result.rejected()).isEqualTo(2);
+        assertThat(result.errors()).extracting(TaskImportErrorDto::line).containsExactly(2502L, 2503L);
+        assertThat(result.errors().get(0).errors()).containsEntry("executorEmail", "Provided executor doesn't exist");
+        assertThat(result.errors().get(1).errors()).containsKey("title");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE id_executor = ? AND id_creator = ? "
+                        + "AND description = 'Imported, from H2' AND due_date = ?",
+                Long.class, USER_ID, ADMIN_ID, LocalDate.of(2030, 1, 1))).isEqualTo(2500);
+    }
+}
@@ -0,0 +1,226 @@
+package com.taskmanager.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.PostgresTest;
+import com.taskmanager.config.Role;
+import com.taskmanager.config.jwt.JwtAuthentication;
+import com.taskmanager.dto.TaskFileFormat;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.service.interfaces.TaskImportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Class TaskImportServiceImplTest
+ *
+ * Task import against PostgreSQL (staged with {@code COPY}): rejected rows and unknown executors are reported,
+ * and a failure of either stage stops the other one and imports nothing.
+ */
+class TaskImportServiceImplTest extends PostgresTest {
+
+    private static final Duration READER_STOP_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private TaskImportService taskImportService;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private Validator validator;
+
+    private final String title = "Imported " + UUID.randomUUID();
+
+    @BeforeEach
+    void authenticate() {
+        JwtAuthentication authentication = new JwtAuthentication();
+        authentication.setUserId(ADMIN_ID);
+        authentication.setEmail(ADMIN_EMAIL);
+        authentication.setRole(Role.ADMIN);
+        authentication.setAuthenticated(true);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void importsNdjsonAndReportsRejectedRows() throws Exception {
+        String body = String.join("\n",
+                row(title, "pending", "low", "\"executorEmail\": \"" + USER_EMAIL + "\""),
+                row(title, "completed", "high", null),
+                row("", "pending", "low", null),
+                row(title, "unknown", "low", null),
+                "not json",
+                row(title, "pending", "low", "\"executorEmail\": \"nobody@example.com\""));
+
+        mockMvc.perform(post("/tasks/import")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL))
+                        .contentType("application/x-ndjson")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.errors[*].line").value(contains(3, 4, 5, 6)))
+                .andExpect(jsonPath("$.errors[0].errors.title").exists())
+                .andExpect(jsonPath("$.errors[1].errors.status").exists())
+                .andExpect(jsonPath("$.errors[2].errors.row").exists())
+                .andExpect(jsonPath("$.errors[3].errors.executorEmail").value("Provided executor doesn't exist"));
+
+        assertThat(jdbcTemplate.queryForList("SELECT id_executor FROM tasks WHERE title = ? ORDER BY status",
+                UUID.class, title)).containsExactly(USER_ID, ADMIN_ID);
+    }
+
+    @Test
+    void importsCsv() throws Exception {
+        String body = """
+                title,description,status,priority,dueDate,executorEmail
+                "%1$s","Quoted, with a comma",in progress,mid,2030-01-01,%2$s
+                %1$s,,pending,low,not a date,
+                """.formatted(title, USER_EMAIL);
+
+        mockMvc.perform(post("/tasks/import").param("format", "csv")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL))
+                        .contentType("text/csv")
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].errors.dueDate").exists());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM tasks WHERE title = ?", String.class, title))
+                .isEqualTo("Quoted, with a comma");
+    }
+
+    @Test
+    void abortedUploadImportsNothing() {
+        // Two chunks are read before the client goes away
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < 2500; i++) rows.append(row(title, "pending", "low", null)).append('\n');
+        InputStream aborted = new AbortedInputStream(rows.toString().getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> taskImportService.importTasks(TaskFileFormat.NDJSON, aborted))
+                .isInstanceOf(BadRequestException.class);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE title = ?", Long.class, title)).isZero();
+        assertReaderStopped();
+    }
+
+    @Test
+    void loadingFailureStopsReaderBlockedOnTheClient() throws Exception {
+        JdbcTemplate failing = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public <T> T execute(ConnectionCallback<T> action) {
+                throw new DataAccessResourceFailureException("Connection lost");
+            }
+        };
+        TaskImportServiceImpl service = new TaskImportServiceImpl(failing, objectMapper, validator,
+                new SimpleMeterRegistry(), event -> {
+        });
+        StalledInputStream stalled = new StalledInputStream();
+
+        assertThatThrownBy(() -> service.importTasks(TaskFileFormat.NDJSON, stalled))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        assertThat(stalled.closed.await(READER_STOP_TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        assertReaderStopped();
+    }
+
+    private static String row(String title, String status, String priority, String extra) {
+        return "{\"title\": \"%s\", \"description\": \"Imported by the test\", \"status\": \"%s\", \"priority\": \"%s\"%s}"
+                .formatted(title, status, priority, extra == null ? "" : ", " + extra);
+    }
+
+    private static void assertReaderStopped() {
+        long deadline = System.nanoTime() + READER_STOP_TIMEOUT.toNanos();
+        while (readerRunning() && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(readerRunning()).as("reader thread running").isFalse();
+    }
+
+    private static boolean readerRunning() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("task-import-reader") && thread.isAlive());
+    }
+
+    /**
+     * A request body whose client goes away after sending part of it.
+     */
+    private static class AbortedInputStream extends InputStream {
+
+        private final InputStream sent;
+
+        AbortedInputStream(byte[] sent) {
+            this.sent = new ByteArrayInputStream(sent);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = sent.read();
+            if (read < 0) throw new IOException("Connection reset by peer");
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = sent.read(b, off, len);
+            if (read < 0) throw new IOException("Connection reset by peer");
+            return read;
+        }
+    }
+
+    /**
+     * A request body whose client sends nothing: reads block until the stream is closed,
+     * and like blocking socket reads they are not interrupted.
+     */
+    private static class StalledInputStream extends InputStream {
+
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        @Override
+        public int read() throws IOException {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    closed.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) Thread.currentThread().interrupt();
+            throw new IOException("Stream closed");
+        }
+
+        @Override
+        public void close() {
+            closed.countDown();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskmanager.service;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.service.interfaces.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskSearchBenchmarkTest
+ *
+ * Latency of one page of {@code GET /tasks/search} results at {@value #ROWS} tasks ({@code mvn test -Pbenchmark}),
+ * from the GIN-indexed {@code search_vector} column. Titles hold 2 and descriptions 5 words out of
+ * {@value #VOCABULARY} (each word is in about 700 tasks), plus one rare word out of {@value #RARE_WORDS}
+ * (each in about 10 tasks); the queries go from a rare word to an {@code or} of two common words.
+ */
+@Tag("benchmark")
+class TaskSearchBenchmarkTest extends PostgresTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int VOCABULARY = 10_000;
+    private static final int RARE_WORDS = 100_000;
+    private static final int WARM_UP = 20;
+    private static final int RUNS = 200;
+    /**
+     * The due date marking the benchmark tasks, deleted afterwards.
+     */
+    private static final String MARKER = "1900-01-01";
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+
+    @Autowired
+    private TaskService taskService;
+
+    /**
+     * The latencies of one query, in milliseconds.
+     */
+    private record Result(long matches, double p50, double p99) {
+
+        @Override
+        public String toString() {
+            return String.format("%,7d matches  p50 %7.2f ms  p99 %7.2f ms", matches, p50, p99);
+        }
+    }
+
+    @AfterEach
+    void deleteTasks() {
+        jdbcTemplate.update("DELETE FROM tasks WHERE due_date = ?::date", MARKER);
+    }
+
+    @Test
+    void searchesStayInMilliseconds() {
+        jdbcTemplate.update("""
+                INSERT INTO tasks (id, title, description, status, priority, id_creator, id_executor, due_date)
+                SELECT gen_random_uuid(),
+                       'w' || floor(random() * ?)::int || ' w' || floor(random() * ?)::int,
+                       'w' || floor(random() * ?)::int || ' w' || floor(random() * ?)::int || ' w' || floor(random() * ?)::int
+                           || ' w' || floor(random() * ?)::int || ' w' || floor(random() * ?)::int || ' r' || (i % ?),
+                       i % 3, i % 3, ?, (ARRAY[?, ?, ?]::uuid[])[i % 3 + 1], ?::date
+                FROM generate_series(1, ?) AS i""",
+                VOCABULARY, VOCABULARY, VOCABULARY, VOCABULARY, VOCABULARY, VOCABULARY, VOCABULARY, RARE_WORDS,
+                ADMIN_ID, ADMIN_ID, USER_ID, OTHER_USER_ID, MARKER, ROWS);
+        jdbcTemplate.execute("ANALYZE tasks");
+
+        for (String query : List.of("r4242", "w17", "w17 w4242", "w17 or w4242", "w17 -w4242")) {
+            for (TaskStatus status : new TaskStatus[]{null, TaskStatus.PENDING}) {
+                Result result = measure(query, status);
+                String label = query + (status == null ? "" : " (pending)");
+                System.out.printf("%-24s %s%n", label, result);
+
+                assertThat(result.p50()).as(label).isLessThan(100);
+            }
+        }
+    }
+
+    private Result measure(String query, TaskStatus status) {
+        long matches = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            matches = taskService.search(query, status, null, PAGE).getTotalElements();
+        }
+        double[] millis = new double[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long begin = System.nanoTime();
+            taskService.search(query, status, null, PAGE);
+            millis[i] = (System.nanoTime() - begin) / 1e6;
+        }
+        Arrays.sort(millis);
+        return new Result(matches, millis[RUNS / 2], millis[RUNS * 99 / 100]);
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskmanager.service;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.entity.TaskPriority;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.service.interfaces.TaskStatsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskStatsServiceImplTest
+ *
+ * The task counters follow the task writes; the reconcile job corrects the drifted counters one executor at a time,
+ * on one instance at a time, without blocking the writes of the other executors.
+ */
+class TaskStatsServiceImplTest extends PostgresTest {
+
+    private static final String INSERT_TASK = "INSERT INTO tasks (id, title, description, status, priority, "
+            + "id_creator, id_executor, due_date) VALUES (?, 'Counted task', null, ?, ?, ?, ?, CURRENT_DATE + 30)";
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void countersFollowTheTaskWrites() {
+        long before = total(USER_ID);
+        UUID taskId = insertTask(USER_ID);
+        assertThat(total(USER_ID)).isEqualTo(before + 1);
+        assertThat(taskStatsService.getStats(USER_ID).byStatus().get(TaskStatus.PENDING.getValue()))
+                .isEqualTo(count(USER_ID, TaskStatus.PENDING));
+
+        jdbcTemplate.update("UPDATE tasks SET id_executor = ? WHERE id = ?", OTHER_USER_ID, taskId);
+        assertThat(total(USER_ID)).isEqualTo(before);
+        jdbcTemplate.update("DELETE FROM tasks WHERE id = ?", taskId);
+        assertThat(taskStatsService.getStats(null).total())
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT count(*) FROM tasks", Long.class));
+    }
+
+    @Test
+    void reconcileCorrectsTheDriftedCounters() {
+        insertTask(USER_ID);
+        taskStatsService.reconcile();
+        jdbcTemplate.update("UPDATE task_counters SET task_count = task_count + 5 WHERE id_executor = ?", USER_ID);
+        jdbcTemplate.update("DELETE FROM task_counters WHERE id_executor = ?", OTHER_USER_ID);
+
+        assertThat(taskStatsService.reconcile()).isPositive();
+
+        assertThat(total(USER_ID)).isEqualTo(count(USER_ID, null));
+        assertThat(total(OTHER_USER_ID)).isEqualTo(count(OTHER_USER_ID, null));
+        assertThat(taskStatsService.reconcile()).isZero();
+    }
+
+    @Test
+    void reconcileRunsOnOneInstanceAtATime() throws SQLException {
+        insertTask(ADMIN_ID);
+        jdbcTemplate.update("UPDATE task_counters SET task_count = task_count + 5 WHERE id_executor = ?", ADMIN_ID);
+        try (Connection otherInstance = dataSource.getConnection()) {
+            otherInstance.setAutoCommit(false);
+            try (PreparedStatement lock = otherInstance.prepareStatement(
+                    "SELECT pg_try_advisory_xact_lock(hashtext('task_counters_reconcile'))");
+                 ResultSet locked = lock.executeQuery()) {
+                assertThat(locked.next() && locked.getBoolean(1)).isTrue();
+            }
+
+            assertThat(taskStatsService.reconcile()).isZero();
+            assertThat(total(ADMIN_ID)).isEqualTo(count(ADMIN_ID, null) + 5 * countersOf(ADMIN_ID));
+            otherInstance.rollback();
+        }
+        assertThat(taskStatsService.reconcile()).isPositive();
+        assertThat(total(ADMIN_ID)).isEqualTo(count(ADMIN_ID, null));
+    }
+
+    @Test
+    void reconcileOnlyWaitsForTheWritesOfTheReconciledExecutor() throws Exception {
+        taskStatsService.reconcile();
+        jdbcTemplate.update("UPDATE task_counters SET task_count = task_count + 5 WHERE id_executor = ?",
+                OTHER_USER_ID);
+        try (Connection writer = dataSource.getConnection()) {
+            writer.setAutoCommit(false);
+            insertTask(writer, USER_ID);
+
+            // The writes of the other executors go on while the executor of the pending write is being recounted
+            CompletableFuture<Integer> reconcile = CompletableFuture.supplyAsync(taskStatsService::reconcile);
+            insertTask(OTHER_USER_ID);
+            assertThat(reconcile.get(30, TimeUnit.SECONDS)).isPositive();
+            assertThat(total(OTHER_USER_ID)).isEqualTo(count(OTHER_USER_ID, null));
+
+            writer.commit();
+        }
+        // The pending write was left to the triggers, and counted once
+        assertThat(total(USER_ID)).isEqualTo(count(USER_ID, null));
+        assertThat(taskStatsService.reconcile()).isZero();
+    }
+
+    private UUID insertTask(UUID executorId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update(INSERT_TASK, id, TaskStatus.PENDING.getCode(), TaskPriority.HIGH.getCode(),
+                ADMIN_ID, executorId);
+        return id;
+    }
+
+    private static void insertTask(Connection connection, UUID executorId) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_TASK)) {
+            insert.setObject(1, UUID.randomUUID());
+            insert.setShort(2, TaskStatus.PENDING.getCode());
+            insert.setShort(3, TaskPriority.HIGH.getCode());
+            insert.setObject(4, ADMIN_ID);
+            insert.setObject(5, executorId);
+            insert.executeUpdate();
+        }
+    }
+
+    private long total(UUID executorId) {
+        return taskStatsService.getStats(executorId).total();
+    }
+
+    private long count(UUID executorId, TaskStatus status) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM tasks WHERE id_executor = ? "
+                + "AND (CAST(? AS smallint) IS NULL OR status = ?)", Long.class, executorId,
+                status == null ? null : status.getCode(), status == null ? null : status.getCode());
+    }
+
+    private long countersOf(UUID executorId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM task_counters WHERE id_executor = ?",
+                Long.class, executorId);
+    }
+}
@@ -0,0 +1,120 @@
+package com.taskmanager.service;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.dto.TaskDto;
+import com.taskmanager.entity.TaskStatus;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.service.interfaces.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class TaskStatusConcurrencyTest
+ *
+ * {@link TaskService#updateTaskStatus} hammered on one task from {@value #THREADS} threads: every change
+ * that is reported as done bumps the version exactly once, and no two threads change the status
+ * from the same value to the same value.
+ */
+class TaskStatusConcurrencyTest extends PostgresTest {
+
+    private static final int THREADS = 16;
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void concurrentRequestsForTheSameStatusChangeItOnce() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+        int rounds = 20;
+
+        for (int round = 0; round < rounds; round++) {
+            TaskStatus target = round % 2 == 0 ? TaskStatus.COMPLETED : TaskStatus.PENDING;
+            List<Boolean> changed = runConcurrently(thread -> change(taskId, target));
+
+            assertThat(changed).as("round %d", round).containsOnlyOnce(true);
+        }
+        assertThat(version(taskId)).isEqualTo(rounds);
+        assertThat(status(taskId)).isEqualTo(TaskStatus.PENDING.getCode());
+    }
+
+    @Test
+    void everyReportedChangeBumpsTheVersion() throws Exception {
+        UUID taskId = insertTask(ADMIN_ID, USER_ID, TaskStatus.PENDING);
+        int changesPerThread = 100;
+
+        List<Integer> changes = runConcurrently(thread -> {
+            int changed = 0;
+            for (int i = 0; i < changesPerThread; i++) {
+                TaskStatus target = STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+                if (change(taskId, target)) changed++;
+            }
+            return changed;
+        });
+
+        int total = changes.stream().mapToInt(Integer::intValue).sum();
+        assertThat(total).isPositive();
+        assertThat(version(taskId)).isEqualTo(total);
+    }
+
+    /**
+     * Changes the status of the task.
+     *
+     * @return {@code true} if the status was changed, {@code false} if the task already had it.
+     */
+    private boolean change(UUID taskId, TaskStatus target) {
+        try {
+            TaskDto task = taskService.updateTaskStatus(taskId, target);
+            // The returned row is the one written by this change, not a later one
+            assertThat(task.getStatus()).isEqualTo(target);
+            return true;
+        } catch (BadRequestException e) {
+            return false;
+        }
+    }
+
+    private <T> List<T> runConcurrently(ThreadTask<T> task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<T>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit((Callable<T>) () -> {
+                    start.await();
+                    return task.run(thread);
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>();
+            for (Future<T> future : futures) results.add(future.get());
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadTask<T> {
+        T run(int thread) throws Exception;
+    }
+
+    private long version(UUID taskId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM tasks WHERE id = ?", Long.class, taskId);
+    }
+
+    private short status(UUID taskId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM tasks WHERE id = ?", Short.class, taskId);
+    }
+}
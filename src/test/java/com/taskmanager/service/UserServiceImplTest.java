@@ -0,0 +1,73 @@
+package com.taskmanager.service;
+
+import com.taskmanager.PostgresTest;
+import com.taskmanager.config.Role;
+import com.taskmanager.dto.projection.UserView;
+import com.taskmanager.entity.User;
+import com.taskmanager.repository.UserRepository;
+import com.taskmanager.service.interfaces.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Class UserServiceImplTest
+ *
+ * The {@link UserServiceImpl} caches: password checks bypass them, and a user changed through JPA
+ * is evicted from them.
+ */
+class UserServiceImplTest extends PostgresTest {
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void passwordIsCheckedAgainstTheDatabase() {
+        UserView user = userService.getUserByEmail(USER_EMAIL).orElseThrow();
+
+        assertThat(userService.isPasswordValid(user, "password456")).isTrue();
+        assertThat(userService.isPasswordValid(user, "password123")).isFalse();
+    }
+
+    @Test
+    void roleChangeEvictsTheUser() {
+        assertThat(userService.getUserByEmail(USER_EMAIL).orElseThrow().role()).isEqualTo(Role.USER);
+        assertThat(userService.getUserById(USER_ID).orElseThrow().role()).isEqualTo(Role.USER);
+        try {
+            change(user -> user.setRole(Role.ADMIN));
+
+            assertThat(userService.getUserByEmail(USER_EMAIL).orElseThrow().role()).isEqualTo(Role.ADMIN);
+            assertThat(userService.getUserById(USER_ID).orElseThrow().role()).isEqualTo(Role.ADMIN);
+        } finally {
+            change(user -> user.setRole(Role.USER));
+        }
+        assertThat(userService.getUserByEmail(USER_EMAIL).orElseThrow().role()).isEqualTo(Role.USER);
+    }
+
+    @Test
+    void emailChangeEvictsTheOldEmail() {
+        String newEmail = "jane.doe@example.com";
+        assertThat(userService.getUserById(USER_ID)).isPresent();
+        try {
+            change(user -> user.setEmail(newEmail));
+
+            assertThat(userService.getUserByEmail(USER_EMAIL)).isEmpty();
+            assertThat(userService.getUserById(USER_ID).orElseThrow().email()).isEqualTo(newEmail);
+        } finally {
+            change(user -> user.setEmail(USER_EMAIL));
+        }
+        assertThat(userService.getUserByEmail(newEmail)).isEmpty();
+        assertThat(userService.getUserByEmail(USER_EMAIL)).isPresent();
+    }
+
+    private void change(Consumer<User> change) {
+        transactionTemplate.executeWithoutResult(status -> change.accept(userRepository.findById(USER_ID).orElseThrow()));
+    }
+}